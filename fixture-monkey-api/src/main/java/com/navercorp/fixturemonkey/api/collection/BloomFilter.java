@@ -0,0 +1,107 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import java.util.Arrays;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A probabilistic set of hash codes, it may answer an absent value as contained by the given false positive rate
+ * but never answers a contained value as absent. Its memory is fixed by the expected number of values.
+ * It is not thread-safe.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class BloomFilter {
+	private final long[] bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException(
+				"expectedInsertions should be positive. expectedInsertions: " + expectedInsertions
+			);
+		}
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException(
+				"falsePositiveRate should be between 0 and 1. falsePositiveRate: " + falsePositiveRate
+			);
+		}
+
+		long optimalBitSize = (long)Math.ceil(
+			-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))
+		);
+		this.bits = new long[(int)Math.max(1L, (optimalBitSize + 63) / 64)];
+		this.bitSize = bits.length * 64L;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * Returns {@code true} if the hash might not have been put before, it is definitely new.
+	 */
+	public boolean put(int hash) {
+		long hash64 = mix64(hash);
+		int hash1 = (int)hash64;
+		int hash2 = (int)(hash64 >>> 32);
+		boolean changed = false;
+		for (int i = 1; i <= hashCount; i++) {
+			long bitIndex = ((hash1 + (long)i * hash2) & Long.MAX_VALUE) % bitSize;
+			int wordIndex = (int)(bitIndex >>> 6);
+			long mask = 1L << bitIndex;
+			if ((bits[wordIndex] & mask) == 0) {
+				bits[wordIndex] |= mask;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	public boolean mightContain(int hash) {
+		long hash64 = mix64(hash);
+		int hash1 = (int)hash64;
+		int hash2 = (int)(hash64 >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long bitIndex = ((hash1 + (long)i * hash2) & Long.MAX_VALUE) % bitSize;
+			if ((bits[(int)(bitIndex >>> 6)] & (1L << bitIndex)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void clear() {
+		Arrays.fill(bits, 0L);
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	private static long mix64(int hash) {
+		long value = hash * 0x9e3779b97f4a7c15L;
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A set of references by open addressing, it keeps no entry objects per value unlike {@link java.util.HashSet}.
+ * It suits values caching their hash codes such as strings. It is not thread-safe.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class CompactHashSet<E> {
+	private static final Object NULL = new Object();
+
+	private final int initialCapacity;
+	private Object[] table;
+	private int size;
+
+	public CompactHashSet() {
+		this(16);
+	}
+
+	public CompactHashSet(int expectedSize) {
+		this.initialCapacity = LongHashSet.capacityFor(expectedSize);
+		this.table = new Object[initialCapacity];
+	}
+
+	/**
+	 * Returns {@code true} if the value is not contained.
+	 */
+	public boolean add(@Nullable E value) {
+		Object element = value == null ? NULL : value;
+		int mask = table.length - 1;
+		for (int index = LongHashSet.mix(element.hashCode()) & mask; ; index = (index + 1) & mask) {
+			Object current = table[index];
+			if (current == null) {
+				table[index] = element;
+				if (++size > table.length / 2) {
+					resize(table.length * 2);
+				}
+				return true;
+			}
+			if (Objects.equals(current, element)) {
+				return false;
+			}
+		}
+	}
+
+	public boolean contains(@Nullable Object value) {
+		Object element = value == null ? NULL : value;
+		int mask = table.length - 1;
+		for (int index = LongHashSet.mix(element.hashCode()) & mask; ; index = (index + 1) & mask) {
+			Object current = table[index];
+			if (current == null) {
+				return false;
+			}
+			if (Objects.equals(current, element)) {
+				return true;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super E> action) {
+		for (Object element : table) {
+			if (element != null) {
+				action.accept(element == NULL ? null : (E)element);
+			}
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes all values, the table shrinks back to its initial capacity.
+	 */
+	public void clear() {
+		if (table.length == initialCapacity) {
+			Arrays.fill(table, null);
+		} else {
+			table = new Object[initialCapacity];
+		}
+		size = 0;
+	}
+
+	public int capacity() {
+		return table.length;
+	}
+
+	private void resize(int capacity) {
+		Object[] oldTable = table;
+		table = new Object[capacity];
+		int mask = capacity - 1;
+		for (Object element : oldTable) {
+			if (element == null) {
+				continue;
+			}
+			int index = LongHashSet.mix(element.hashCode()) & mask;
+			while (table[index] != null) {
+				index = (index + 1) & mask;
+			}
+			table[index] = element;
+		}
+	}
+}
@@ -0,0 +1,298 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A bounded cache which could be shared between threads.
+ * Entries are striped over segments, each segment evicts its least recently used entry,
+ * so eviction is an approximate LRU over the whole cache.
+ * A mapping function of {@link #computeIfAbsent(Object, Function)} is called at most once for a key at a time,
+ * the other threads computing the same key wait for it without holding the lock of a segment.
+ * A mapping function computing the same key again throws an {@link IllegalStateException} as ConcurrentHashMap does.
+ * So a key used only once such as an {@link java.util.Iterator} could be cached by it.
+ * An eviction listener is called with an evicted entry, holding the lock of its segment.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class ConcurrentLruCache<K, V> extends AbstractMap<K, V> {
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final int maxSize;
+	private final Segment<K, V>[] segments;
+	private final Map<K, Computation<V>> computingValues = new ConcurrentHashMap<>();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public ConcurrentLruCache(int maxSize) {
+		this(maxSize, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	public ConcurrentLruCache(int maxSize, BiConsumer<? super K, ? super V> evictionListener) {
+		this(maxSize, DEFAULT_CONCURRENCY_LEVEL, evictionListener);
+	}
+
+	public ConcurrentLruCache(int maxSize, int concurrencyLevel) {
+		this(maxSize, concurrencyLevel, (key, value) -> {
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	public ConcurrentLruCache(
+		int maxSize,
+		int concurrencyLevel,
+		BiConsumer<? super K, ? super V> evictionListener
+	) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize should be positive. maxSize: " + maxSize);
+		}
+		if (concurrencyLevel <= 0) {
+			throw new IllegalArgumentException(
+				"concurrencyLevel should be positive. concurrencyLevel: " + concurrencyLevel
+			);
+		}
+
+		this.maxSize = maxSize;
+		int segmentCount = Math.min(ceilingPowerOfTwo(concurrencyLevel), Integer.highestOneBit(maxSize));
+		this.segments = (Segment<K, V>[])new Segment<?, ?>[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			int segmentSize = maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0);
+			this.segments[i] = new Segment<>(segmentSize, evictionCount, evictionListener);
+		}
+	}
+
+	@Nullable
+	@Override
+	public V get(Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			value = segment.get(key);
+		}
+
+		if (value == null) {
+			missCount.increment();
+		} else {
+			hitCount.increment();
+		}
+		return value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.containsKey(key);
+		}
+	}
+
+	@Nullable
+	@Override
+	public V put(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.put(key, value);
+		}
+	}
+
+	@Nullable
+	@Override
+	public V putIfAbsent(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.putIfAbsent(key, value);
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+
+		Computation<V> computing = new Computation<>(Thread.currentThread());
+		Computation<V> otherComputing = computingValues.putIfAbsent(key, computing);
+		if (otherComputing != null) {
+			if (otherComputing.owner == Thread.currentThread()) {
+				throw new IllegalStateException("Recursive update");
+			}
+			return join(otherComputing.future);
+		}
+
+		try {
+			// the value could be put by another thread between get and registering the computation
+			Segment<K, V> segment = segmentFor(key);
+			synchronized (segment) {
+				value = segment.get(key);
+			}
+			if (value == null) {
+				value = mappingFunction.apply(key);
+				if (value != null) {
+					put(key, value);
+				}
+			}
+			computing.future.complete(value);
+			return value;
+		} catch (RuntimeException | Error ex) {
+			computing.future.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			computingValues.remove(key, computing);
+		}
+	}
+
+	@Nullable
+	@Override
+	public V remove(Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			return segment.remove(key);
+		}
+	}
+
+	@Override
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns a snapshot of entries, changes of the snapshot are not reflected to the cache.
+	 */
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		Set<Entry<K, V>> entries = new HashSet<>();
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				for (Entry<K, V> entry : segment.entrySet()) {
+					entries.add(new SimpleImmutableEntry<>(entry));
+				}
+			}
+		}
+		return entries;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Nullable
+	private static <V> V join(CompletableFuture<V> computing) {
+		try {
+			return computing.join();
+		} catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw ex;
+		}
+	}
+
+	private Segment<K, V> segmentFor(@Nullable Object key) {
+		int hash = key == null ? 0 : key.hashCode();
+		hash ^= (hash >>> 16);
+		return segments[hash & (segments.length - 1)];
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		int highestOneBit = Integer.highestOneBit(value);
+		return highestOneBit == value ? value : highestOneBit << 1;
+	}
+
+	private static final class Computation<V> {
+		private final Thread owner;
+		private final CompletableFuture<V> future = new CompletableFuture<>();
+
+		private Computation(Thread owner) {
+			this.owner = owner;
+		}
+	}
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+		private final LongAdder evictionCount;
+		private final BiConsumer<? super K, ? super V> evictionListener;
+
+		private Segment(int maxSize, LongAdder evictionCount, BiConsumer<? super K, ? super V> evictionListener) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+			this.evictionCount = evictionCount;
+			this.evictionListener = evictionListener;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			if (size() > maxSize) {
+				evictionCount.increment();
+				evictionListener.accept(eldest.getKey(), eldest.getValue());
+				return true;
+			}
+			return false;
+		}
+	}
+}
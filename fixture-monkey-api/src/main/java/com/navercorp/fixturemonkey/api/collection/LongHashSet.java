@@ -0,0 +1,164 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A set of primitive longs by open addressing, values are not boxed.
+ * It is not thread-safe.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class LongHashSet {
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final long EMPTY = 0L;
+
+	private final int initialCapacity;
+	private long[] table;
+	private boolean containsEmpty;
+	private int size;
+
+	public LongHashSet() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public LongHashSet(int expectedSize) {
+		this.initialCapacity = capacityFor(expectedSize);
+		this.table = new long[initialCapacity];
+	}
+
+	/**
+	 * Returns {@code true} if the value is not contained.
+	 */
+	public boolean add(long value) {
+		if (value == EMPTY) {
+			if (containsEmpty) {
+				return false;
+			}
+			containsEmpty = true;
+			size++;
+			return true;
+		}
+
+		int mask = table.length - 1;
+		for (int index = mix(value) & mask; ; index = (index + 1) & mask) {
+			long current = table[index];
+			if (current == EMPTY) {
+				table[index] = value;
+				if (++size > table.length / 2) {
+					resize(table.length * 2);
+				}
+				return true;
+			}
+			if (current == value) {
+				return false;
+			}
+		}
+	}
+
+	public boolean contains(long value) {
+		if (value == EMPTY) {
+			return containsEmpty;
+		}
+
+		int mask = table.length - 1;
+		for (int index = mix(value) & mask; ; index = (index + 1) & mask) {
+			long current = table[index];
+			if (current == EMPTY) {
+				return false;
+			}
+			if (current == value) {
+				return true;
+			}
+		}
+	}
+
+	public void forEach(LongConsumer action) {
+		if (containsEmpty) {
+			action.accept(EMPTY);
+		}
+		for (long value : table) {
+			if (value != EMPTY) {
+				action.accept(value);
+			}
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes all values, the table shrinks back to its initial capacity.
+	 */
+	public void clear() {
+		if (table.length == initialCapacity) {
+			Arrays.fill(table, EMPTY);
+		} else {
+			table = new long[initialCapacity];
+		}
+		containsEmpty = false;
+		size = 0;
+	}
+
+	public int capacity() {
+		return table.length;
+	}
+
+	private void resize(int capacity) {
+		long[] oldTable = table;
+		table = new long[capacity];
+		int mask = capacity - 1;
+		for (long value : oldTable) {
+			if (value == EMPTY) {
+				continue;
+			}
+			int index = mix(value) & mask;
+			while (table[index] != EMPTY) {
+				index = (index + 1) & mask;
+			}
+			table[index] = value;
+		}
+	}
+
+	static int capacityFor(int expectedSize) {
+		int capacity = DEFAULT_CAPACITY;
+		while (capacity < expectedSize * 2L && capacity < (1 << 30)) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	/**
+	 * The finalizer of MurmurHash3, sequential values are spread over the table.
+	 */
+	static int mix(long value) {
+		long hash = value;
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return (int)hash;
+	}
+}
@@ -3,6 +3,10 @@ package com.navercorp.fixturemonkey.api.collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * Deprecated Use {@link ConcurrentLruCache} instead, it is not safe to share between threads.
+ */
+@Deprecated
 public final class LruCache<K, V> extends LinkedHashMap<K, V> {
 	private final int maxSize;
 
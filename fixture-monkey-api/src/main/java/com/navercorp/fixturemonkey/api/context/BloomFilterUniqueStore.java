@@ -0,0 +1,71 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.collection.BloomFilter;
+
+/**
+ * Stores the hash codes of values in a {@link BloomFilter}, its memory is fixed by the expected number of values.
+ * A value never generated before may be regarded as generated by the false positive rate and generated again,
+ * generated values are still unique.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class BloomFilterUniqueStore implements UniqueStore {
+	private final BloomFilter bloomFilter;
+	private int size;
+
+	public BloomFilterUniqueStore(int expectedInsertions, double falsePositiveRate) {
+		this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+	}
+
+	@Override
+	public boolean add(@Nullable Object value) {
+		boolean unique = bloomFilter.put(Objects.hashCode(value));
+		if (unique) {
+			size++;
+		}
+		return unique;
+	}
+
+	@Override
+	public void clear() {
+		bloomFilter.clear();
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of values regarded as not generated before.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public long getEstimatedBytes() {
+		return 16 + bloomFilter.bitSize() / Byte.SIZE;
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.collection.CompactHashSet;
+import com.navercorp.fixturemonkey.api.collection.LongHashSet;
+
+/**
+ * Stores values exactly. Values of a primitive wrapper type are stored as primitive longs without boxing,
+ * other values such as strings are stored in a {@link CompactHashSet}.
+ * It falls back to a {@link CompactHashSet} once a value of another type is added.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class ExactUniqueStore implements UniqueStore {
+	private static final int ARRAY_HEADER_BYTES = 16;
+	private static final Set<Class<?>> PRIMITIVE_WRAPPER_TYPES = new HashSet<>(Arrays.asList(
+		Long.class, Integer.class, Short.class, Byte.class, Character.class, Double.class, Float.class, Boolean.class
+	));
+
+	@Nullable
+	private Class<?> primitiveType;
+	@Nullable
+	private LongHashSet primitiveValues;
+	@Nullable
+	private CompactHashSet<Object> values;
+
+	@Override
+	public boolean add(@Nullable Object value) {
+		if (values == null && primitiveValues == null) {
+			if (value != null && PRIMITIVE_WRAPPER_TYPES.contains(value.getClass())) {
+				primitiveType = value.getClass();
+				primitiveValues = new LongHashSet();
+			} else {
+				values = new CompactHashSet<>();
+			}
+		}
+
+		if (primitiveValues != null) {
+			if (value != null && value.getClass() == primitiveType) {
+				return primitiveValues.add(toLongBits(value));
+			}
+			values = toCompactHashSet(primitiveValues, primitiveType);
+			primitiveValues = null;
+			primitiveType = null;
+		}
+		return values.add(value);
+	}
+
+	@Override
+	public void clear() {
+		if (primitiveValues != null) {
+			primitiveValues.clear();
+		}
+		if (values != null) {
+			values.clear();
+		}
+	}
+
+	@Override
+	public int size() {
+		if (primitiveValues != null) {
+			return primitiveValues.size();
+		}
+		return values != null ? values.size() : 0;
+	}
+
+	@Override
+	public long getEstimatedBytes() {
+		if (primitiveValues != null) {
+			return ARRAY_HEADER_BYTES + (long)primitiveValues.capacity() * Long.BYTES;
+		}
+		if (values != null) {
+			return ARRAY_HEADER_BYTES + (long)values.capacity() * Integer.BYTES;
+		}
+		return 0L;
+	}
+
+	/**
+	 * Iterates the stored values, a primitive value is boxed to its wrapper type.
+	 */
+	public void forEach(Consumer<Object> action) {
+		if (primitiveValues != null) {
+			Class<?> type = primitiveType;
+			primitiveValues.forEach(bits -> action.accept(fromLongBits(type, bits)));
+		} else if (values != null) {
+			values.forEach(action);
+		}
+	}
+
+	private static CompactHashSet<Object> toCompactHashSet(LongHashSet primitiveValues, Class<?> primitiveType) {
+		CompactHashSet<Object> values = new CompactHashSet<>(primitiveValues.size());
+		primitiveValues.forEach(bits -> values.add(fromLongBits(primitiveType, bits)));
+		return values;
+	}
+
+	/**
+	 * Two values of the same wrapper type are equal if and only if their bits are equal,
+	 * as {@link Double#equals(Object)} compares the bits of doubles.
+	 */
+	private static long toLongBits(Object value) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return ((Number)value).longValue();
+		}
+		if (value instanceof Character) {
+			return (long)(Character)value;
+		}
+		if (value instanceof Double) {
+			return Double.doubleToLongBits((Double)value);
+		}
+		if (value instanceof Float) {
+			return (long)Float.floatToIntBits((Float)value);
+		}
+		return (Boolean)value ? 1L : 0L;
+	}
+
+	private static Object fromLongBits(Class<?> type, long bits) {
+		if (type == Long.class) {
+			return bits;
+		}
+		if (type == Integer.class) {
+			return (int)bits;
+		}
+		if (type == Short.class) {
+			return (short)bits;
+		}
+		if (type == Byte.class) {
+			return (byte)bits;
+		}
+		if (type == Character.class) {
+			return (char)bits;
+		}
+		if (type == Double.class) {
+			return Double.longBitsToDouble(bits);
+		}
+		if (type == Float.class) {
+			return Float.intBitsToFloat((int)bits);
+		}
+		return bits == 1L;
+	}
+}
@@ -18,28 +18,75 @@
 
 package com.navercorp.fixturemonkey.api.context;
 
-import java.util.TreeMap;
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
 
-import com.navercorp.fixturemonkey.api.collection.LruCache;
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class MonkeyContext {
-	private final LruCache<Property, Arbitrary<?>> arbitrariesByProperty;
-	private final LruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
+	private final ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty;
+	private final ConcurrentLruCache<Property, Arbitrary<?>> unshrinkableArbitrariesByProperty;
+	private final ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
+	@Nullable
+	private final GenerationListener generationListener;
+	private final UniqueStoreOptions uniqueStoreOptions;
+	private final UniqueStoreMetrics uniqueStoreMetrics = new UniqueStoreMetrics();
 
 	public MonkeyContext(
-		LruCache<Property, Arbitrary<?>> arbitrariesByProperty,
-		LruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty
+		ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty,
+		ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty
+	) {
+		this(arbitrariesByProperty, generatorContextByRootProperty, null);
+	}
+
+	public MonkeyContext(
+		ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty,
+		ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty,
+		@Nullable GenerationListener generationListener
+	) {
+		this(
+			arbitrariesByProperty,
+			new ConcurrentLruCache<>(arbitrariesByProperty.getMaxSize()),
+			generatorContextByRootProperty,
+			generationListener
+		);
+	}
+
+	public MonkeyContext(
+		ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty,
+		ConcurrentLruCache<Property, Arbitrary<?>> unshrinkableArbitrariesByProperty,
+		ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty,
+		@Nullable GenerationListener generationListener
+	) {
+		this(
+			arbitrariesByProperty,
+			unshrinkableArbitrariesByProperty,
+			generatorContextByRootProperty,
+			generationListener,
+			UniqueStoreOptions.DEFAULT
+		);
+	}
+
+	public MonkeyContext(
+		ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty,
+		ConcurrentLruCache<Property, Arbitrary<?>> unshrinkableArbitrariesByProperty,
+		ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty,
+		@Nullable GenerationListener generationListener,
+		UniqueStoreOptions uniqueStoreOptions
 	) {
 		this.arbitrariesByProperty = arbitrariesByProperty;
+		this.unshrinkableArbitrariesByProperty = unshrinkableArbitrariesByProperty;
 		this.generatorContextByRootProperty = generatorContextByRootProperty;
+		this.generationListener = generationListener;
+		this.uniqueStoreOptions = uniqueStoreOptions;
 	}
 
 	public static MonkeyContextBuilder builder() {
@@ -47,17 +94,56 @@ public final class MonkeyContext {
 	}
 
 	public Arbitrary<?> getCachedArbitrary(Property property) {
-		return arbitrariesByProperty.get(property);
+		return getCachedArbitrary(property, true);
+	}
+
+	/**
+	 * Arbitraries which do not shrink are cached apart, they would not shrink if they are used in shrinking ones.
+	 */
+	public Arbitrary<?> getCachedArbitrary(Property property, boolean shrinkable) {
+		Arbitrary<?> cached = getArbitrariesByProperty(shrinkable).get(property);
+		if (generationListener != null) {
+			generationListener.onCacheAccess(property, cached != null);
+		}
+		return cached;
 	}
 
 	public void putCachedArbitrary(Property property, Arbitrary<?> arbitrary) {
-		arbitrariesByProperty.put(property, arbitrary);
+		putCachedArbitrary(property, arbitrary, true);
+	}
+
+	public void putCachedArbitrary(Property property, Arbitrary<?> arbitrary, boolean shrinkable) {
+		getArbitrariesByProperty(shrinkable).put(property, arbitrary);
 	}
 
 	public MonkeyGeneratorContext retrieveGeneratorContext(RootProperty rootProperty) {
 		return generatorContextByRootProperty.computeIfAbsent(
 			rootProperty,
-			property -> new MonkeyGeneratorContext(new TreeMap<>())
+			property -> newGeneratorContext()
 		);
 	}
+
+	/**
+	 * Returns a generator context which is not cached, such as the one of a root property generated only once.
+	 */
+	public MonkeyGeneratorContext newGeneratorContext() {
+		return new MonkeyGeneratorContext(uniqueStoreOptions, uniqueStoreMetrics);
+	}
+
+	@Nullable
+	public GenerationListener getGenerationListener() {
+		return generationListener;
+	}
+
+	public UniqueStoreOptions getUniqueStoreOptions() {
+		return uniqueStoreOptions;
+	}
+
+	public UniqueStoreMetrics getUniqueStoreMetrics() {
+		return uniqueStoreMetrics;
+	}
+
+	private ConcurrentLruCache<Property, Arbitrary<?>> getArbitrariesByProperty(boolean shrinkable) {
+		return shrinkable ? arbitrariesByProperty : unshrinkableArbitrariesByProperty;
+	}
 }
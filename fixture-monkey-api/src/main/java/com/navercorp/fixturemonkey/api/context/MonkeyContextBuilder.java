@@ -18,29 +18,45 @@
 
 package com.navercorp.fixturemonkey.api.context;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
 
-import com.navercorp.fixturemonkey.api.collection.LruCache;
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class MonkeyContextBuilder {
-	private LruCache<Property, Arbitrary<?>> arbitrariesByProperty;
-	private LruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
+	private ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty;
+	private ConcurrentLruCache<Property, Arbitrary<?>> unshrinkableArbitrariesByProperty;
+	private ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
 	private int cacheSize = 2000;
 	private int generatorContextSize = 1000;
+	@Nullable
+	private GenerationListener generationListener;
+	private UniqueStoreOptions uniqueStoreOptions = UniqueStoreOptions.DEFAULT;
 
-	public MonkeyContextBuilder arbitrariesByProperty(LruCache<Property, Arbitrary<?>> arbitrariesByProperty) {
+	public MonkeyContextBuilder arbitrariesByProperty(
+		ConcurrentLruCache<Property, Arbitrary<?>> arbitrariesByProperty
+	) {
 		this.arbitrariesByProperty = arbitrariesByProperty;
 		return this;
 	}
 
+	public MonkeyContextBuilder unshrinkableArbitrariesByProperty(
+		ConcurrentLruCache<Property, Arbitrary<?>> unshrinkableArbitrariesByProperty
+	) {
+		this.unshrinkableArbitrariesByProperty = unshrinkableArbitrariesByProperty;
+		return this;
+	}
+
 	public MonkeyContextBuilder generatorContextByRootProperty(
-		LruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty
+		ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty
 	) {
 		this.generatorContextByRootProperty = generatorContextByRootProperty;
 		return this;
@@ -56,15 +72,38 @@ public final class MonkeyContextBuilder {
 		return this;
 	}
 
+	public MonkeyContextBuilder generationListener(@Nullable GenerationListener generationListener) {
+		this.generationListener = generationListener;
+		return this;
+	}
+
+	public MonkeyContextBuilder uniqueStoreOptions(UniqueStoreOptions uniqueStoreOptions) {
+		this.uniqueStoreOptions = uniqueStoreOptions;
+		return this;
+	}
+
 	public MonkeyContext build() {
 		if (arbitrariesByProperty == null) {
-			arbitrariesByProperty = new LruCache<>(cacheSize);
+			arbitrariesByProperty = new ConcurrentLruCache<>(cacheSize);
+		}
+
+		if (unshrinkableArbitrariesByProperty == null) {
+			unshrinkableArbitrariesByProperty = new ConcurrentLruCache<>(cacheSize);
 		}
 
 		if (generatorContextByRootProperty == null) {
-			generatorContextByRootProperty = new LruCache<>(generatorContextSize);
+			generatorContextByRootProperty = new ConcurrentLruCache<>(
+				generatorContextSize,
+				(rootProperty, generatorContext) -> generatorContext.clear()
+			);
 		}
 
-		return new MonkeyContext(arbitrariesByProperty, generatorContextByRootProperty);
+		return new MonkeyContext(
+			arbitrariesByProperty,
+			unshrinkableArbitrariesByProperty,
+			generatorContextByRootProperty,
+			generationListener,
+			uniqueStoreOptions
+		);
 	}
 }
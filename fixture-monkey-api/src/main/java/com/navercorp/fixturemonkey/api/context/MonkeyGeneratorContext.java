@@ -18,37 +18,216 @@
 
 package com.navercorp.fixturemonkey.api.context;
 
-import java.util.HashSet;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import net.jqwik.api.TooManyFilterMissesException;
+
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext.PropertyPath;
+import com.navercorp.fixturemonkey.api.unique.FeistelPermutation;
+import com.navercorp.fixturemonkey.api.unique.UniqueDomain;
 
+/**
+ * Tracks generated values of unique properties in {@link UniqueStore}s,
+ * or the number of values drawn from a {@link UniqueDomain} which needs no store.
+ * Values are tracked per thread in a thread local of the context, each thread samples its own unique values
+ * without locking. The values of a thread go away with the thread, the context does not reference threads strongly.
+ * The values of every thread are dropped when the context is cleared on eviction.
+ * The estimated bytes of the stores of every thread are summed up to be capped by {@link UniqueStoreOptions},
+ * the bytes of a terminated thread are subtracted once the thread is collected.
+ */
 @API(since = "0.4.3", status = Status.EXPERIMENTAL)
 public final class MonkeyGeneratorContext {
-	private final SortedMap<PropertyPath, Set<Object>> uniqueSetsByProperty;
+	private static final int MIN_EXPECTED_INSERTIONS = 1024;
+
+	private final ThreadLocal<ThreadUniques> threadLocalUniques = new ThreadLocal<>();
+	private final Set<ThreadBytes> threadBytes = ConcurrentHashMap.newKeySet();
+	private final ReferenceQueue<Thread> collectedThreads = new ReferenceQueue<>();
+	private final AtomicInteger generation = new AtomicInteger();
+	private final AtomicLong estimatedBytes = new AtomicLong();
+	private final UniqueStoreOptions uniqueStoreOptions;
+	private final UniqueStoreMetrics uniqueStoreMetrics;
+
+	public MonkeyGeneratorContext(UniqueStoreOptions uniqueStoreOptions, UniqueStoreMetrics uniqueStoreMetrics) {
+		this.uniqueStoreOptions = uniqueStoreOptions;
+		this.uniqueStoreMetrics = uniqueStoreMetrics;
+	}
+
+	public boolean isUniqueAndCheck(PropertyPath property, @Nullable Object value) {
+		ThreadUniques threadUniques = getThreadUniques();
+		SortedMap<PropertyPath, UniqueStore> uniqueStores = threadUniques.storesByProperty;
+		UniqueStore store = uniqueStores.get(property);
+		long bytes = 0L;
+		if (store == null) {
+			store = uniqueStoreOptions.getUniqueStoreFactory().get();
+			uniqueStores.put(property, store);
+		} else {
+			bytes = store.getEstimatedBytes();
+		}
 
-	public MonkeyGeneratorContext(SortedMap<PropertyPath, Set<Object>> uniqueSetsByProperty) {
-		this.uniqueSetsByProperty = uniqueSetsByProperty;
+		boolean unique = store.add(value);
+		uniqueStoreMetrics.recordCheck(unique);
+
+		long totalBytes = addEstimatedBytes(threadUniques, store.getEstimatedBytes() - bytes);
+		if (totalBytes > uniqueStoreOptions.getMaxEstimatedBytes() && store instanceof ExactUniqueStore) {
+			UniqueStore degradedStore = degrade((ExactUniqueStore)store);
+			uniqueStores.put(property, degradedStore);
+			addEstimatedBytes(threadUniques, degradedStore.getEstimatedBytes() - store.getEstimatedBytes());
+		}
+		return unique;
 	}
 
-	public synchronized boolean isUniqueAndCheck(PropertyPath property, Object value) {
-		Set<Object> set = uniqueSetsByProperty.computeIfAbsent(property, p -> new HashSet<>());
-		boolean unique = !set.contains(value);
-		if (unique) {
-			set.add(value);
-			return true;
+	/**
+	 * Draws the next value of the domain unique in the given property, it walks a permutation seeded by the random.
+	 */
+	public <T> T nextUnique(PropertyPath property, UniqueDomain<T> domain, Random random) {
+		Map<PropertyPath, UniqueCursor> uniqueCursors = getThreadUniques().cursorsByProperty;
+		UniqueCursor cursor = uniqueCursors.get(property);
+		if (cursor == null) {
+			cursor = new UniqueCursor(domain.permutation(random.nextLong()));
+			uniqueCursors.put(property, cursor);
 		}
 
-		return false;
+		if (domain.isExhausted(cursor.drawn)) {
+			throw new TooManyFilterMissesException(
+				"every unique value is drawn. property: " + property.getProperty().getName()
+			);
+		}
+		return domain.valueOf(cursor.permutation.permute(cursor.drawn++));
 	}
 
+	/**
+	 * Drops the values of the given property, a new store is created by the factory of {@link UniqueStoreOptions}.
+	 * A store degraded into a bloom filter is also dropped, the next values are tracked exactly again.
+	 */
 	public void evictUnique(PropertyPath propertyPath) {
-		if (uniqueSetsByProperty.containsKey(propertyPath)) {
-			uniqueSetsByProperty.get(propertyPath).clear();
+		ThreadUniques threadUniques = getThreadUniques();
+		threadUniques.cursorsByProperty.remove(propertyPath);
+		UniqueStore store = threadUniques.storesByProperty.remove(propertyPath);
+		if (store != null) {
+			addEstimatedBytes(threadUniques, -store.getEstimatedBytes());
+		}
+	}
+
+	/**
+	 * Clears the unique values of every thread, it is called when the context is evicted.
+	 * The values of a thread are dropped as a whole, another thread retrieves new values on its next access.
+	 */
+	public void clear() {
+		generation.incrementAndGet();
+		threadLocalUniques.remove();
+		threadBytes.clear();
+		estimatedBytes.set(0L);
+	}
+
+	/**
+	 * Returns the sum of the estimated bytes of the stores of every thread.
+	 */
+	long getEstimatedBytes() {
+		return estimatedBytes.get();
+	}
+
+	/**
+	 * Returns the unique values of the current thread, the bytes of collected threads are subtracted meanwhile.
+	 */
+	private ThreadUniques getThreadUniques() {
+		int currentGeneration = generation.get();
+		ThreadUniques uniques = threadLocalUniques.get();
+		if (uniques == null || uniques.generation != currentGeneration) {
+			subtractCollectedThreads();
+			ThreadBytes bytes = new ThreadBytes(Thread.currentThread(), collectedThreads);
+			threadBytes.add(bytes);
+			uniques = new ThreadUniques(currentGeneration, bytes);
+			threadLocalUniques.set(uniques);
+		}
+		return uniques;
+	}
+
+	private void subtractCollectedThreads() {
+		Reference<? extends Thread> reference;
+		while ((reference = collectedThreads.poll()) != null) {
+			ThreadBytes bytes = (ThreadBytes)reference;
+			if (threadBytes.remove(bytes)) {
+				addEstimatedBytes(-bytes.estimatedBytes.get());
+			}
+		}
+	}
+
+	/**
+	 * Adds the given bytes of the stores of the current thread to the estimated bytes of every store, returns the sum.
+	 */
+	private long addEstimatedBytes(ThreadUniques threadUniques, long bytes) {
+		threadUniques.bytes.estimatedBytes.addAndGet(bytes);
+		return addEstimatedBytes(bytes);
+	}
+
+	/**
+	 * Adds the given bytes to the estimated bytes of every store, returns the sum.
+	 */
+	private long addEstimatedBytes(long bytes) {
+		long totalBytes = estimatedBytes.addAndGet(bytes);
+		uniqueStoreMetrics.recordEstimatedBytes(totalBytes);
+		return totalBytes;
+	}
+
+	/**
+	 * Replaces an exact store grown over the memory cap by a bloom filter containing its values.
+	 */
+	private UniqueStore degrade(ExactUniqueStore store) {
+		BloomFilterUniqueStore bloomFilterStore = new BloomFilterUniqueStore(
+			Math.max(MIN_EXPECTED_INSERTIONS, store.size() * 2),
+			uniqueStoreOptions.getFalsePositiveRate()
+		);
+		store.forEach(bloomFilterStore::add);
+
+		uniqueStoreMetrics.recordDegradedStore();
+		return bloomFilterStore;
+	}
+
+	private static final class ThreadUniques {
+		private final SortedMap<PropertyPath, UniqueStore> storesByProperty = new TreeMap<>();
+		private final Map<PropertyPath, UniqueCursor> cursorsByProperty = new HashMap<>();
+		private final int generation;
+		private final ThreadBytes bytes;
+
+		private ThreadUniques(int generation, ThreadBytes bytes) {
+			this.generation = generation;
+			this.bytes = bytes;
+		}
+	}
+
+	/**
+	 * The estimated bytes of the stores of a thread, it is enqueued when the thread is collected.
+	 */
+	private static final class ThreadBytes extends WeakReference<Thread> {
+		private final AtomicLong estimatedBytes = new AtomicLong();
+
+		private ThreadBytes(Thread thread, ReferenceQueue<Thread> queue) {
+			super(thread, queue);
+		}
+	}
+
+	private static final class UniqueCursor {
+		private final FeistelPermutation permutation;
+		private long drawn;
+
+		private UniqueCursor(FeistelPermutation permutation) {
+			this.permutation = permutation;
 		}
 	}
 }
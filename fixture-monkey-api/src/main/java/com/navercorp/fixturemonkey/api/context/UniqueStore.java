@@ -0,0 +1,55 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Stores the generated values of a unique property such as an element of a set or a key of a map.
+ * A store is used by one thread at a time.
+ *
+ * @see ExactUniqueStore
+ * @see BloomFilterUniqueStore
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public interface UniqueStore {
+	/**
+	 * Returns {@code true} if the value is regarded as not generated before, the value is stored.
+	 * A value regarded as generated is generated again.
+	 */
+	boolean add(@Nullable Object value);
+
+	/**
+	 * Called when a container is generated, the values of the next container could be the same as this one.
+	 */
+	void clear();
+
+	/**
+	 * Returns the number of stored values.
+	 */
+	int size();
+
+	/**
+	 * Returns the estimated bytes of the store itself, the stored values are not counted.
+	 */
+	long getEstimatedBytes();
+}
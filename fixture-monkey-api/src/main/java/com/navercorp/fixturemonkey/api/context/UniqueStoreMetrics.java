@@ -0,0 +1,79 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Counts the unique values checked by the stores of a {@link MonkeyContext}, shared by every thread.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class UniqueStoreMetrics {
+	private final LongAdder checkCount = new LongAdder();
+	private final LongAdder duplicateCount = new LongAdder();
+	private final LongAdder degradedStoreCount = new LongAdder();
+	private final AtomicLong peakEstimatedBytes = new AtomicLong();
+
+	/**
+	 * Returns the number of values checked whether they are unique.
+	 */
+	public long getCheckCount() {
+		return checkCount.sum();
+	}
+
+	/**
+	 * Returns the number of values regarded as generated before, they are generated again.
+	 */
+	public long getDuplicateCount() {
+		return duplicateCount.sum();
+	}
+
+	/**
+	 * Returns the number of exact stores replaced by bloom filters since they grew over the memory cap.
+	 */
+	public long getDegradedStoreCount() {
+		return degradedStoreCount.sum();
+	}
+
+	/**
+	 * Returns the largest sum of the estimated bytes of the stores of a generator context.
+	 */
+	public long getPeakEstimatedBytes() {
+		return peakEstimatedBytes.get();
+	}
+
+	void recordCheck(boolean unique) {
+		checkCount.increment();
+		if (!unique) {
+			duplicateCount.increment();
+		}
+	}
+
+	void recordDegradedStore() {
+		degradedStoreCount.increment();
+	}
+
+	void recordEstimatedBytes(long bytes) {
+		peakEstimatedBytes.accumulateAndGet(bytes, Math::max);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.unique.UniqueDomain;
+
+/**
+ * Options of the stores tracking unique values of a {@link MonkeyContext}.
+ * Unique values of a {@link UniqueDomain} are drawn without a store if {@code permuteUniqueDomains} is enabled,
+ * it is disabled by default since the values are no longer generated by the registered introspectors.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class UniqueStoreOptions {
+	public static final UniqueStoreOptions DEFAULT =
+		new UniqueStoreOptions(ExactUniqueStore::new, Long.MAX_VALUE, 0.01, false);
+
+	private final Supplier<UniqueStore> uniqueStoreFactory;
+	private final long maxEstimatedBytes;
+	private final double falsePositiveRate;
+	private final boolean permuteUniqueDomains;
+
+	public UniqueStoreOptions(
+		Supplier<UniqueStore> uniqueStoreFactory,
+		long maxEstimatedBytes,
+		double falsePositiveRate
+	) {
+		this(uniqueStoreFactory, maxEstimatedBytes, falsePositiveRate, false);
+	}
+
+	/**
+	 * @param uniqueStoreFactory   creates a store for each unique property of each thread
+	 * @param maxEstimatedBytes    the memory cap of the stores of a generator context summed up over threads,
+	 *                             an exact store growing over the cap is replaced by a {@link BloomFilterUniqueStore}
+	 * @param falsePositiveRate    the false positive rate of a {@link BloomFilterUniqueStore} replacing an exact store
+	 * @param permuteUniqueDomains whether set elements of an unconstrained {@link UniqueDomain} type are drawn
+	 *                             from a permutation of the domain instead of being filtered by a store,
+	 *                             the registered introspectors of those types are not used for the elements
+	 */
+	public UniqueStoreOptions(
+		Supplier<UniqueStore> uniqueStoreFactory,
+		long maxEstimatedBytes,
+		double falsePositiveRate,
+		boolean permuteUniqueDomains
+	) {
+		if (maxEstimatedBytes <= 0) {
+			throw new IllegalArgumentException(
+				"maxEstimatedBytes should be positive. maxEstimatedBytes: " + maxEstimatedBytes
+			);
+		}
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException(
+				"falsePositiveRate should be between 0 and 1. falsePositiveRate: " + falsePositiveRate
+			);
+		}
+		this.uniqueStoreFactory = uniqueStoreFactory;
+		this.maxEstimatedBytes = maxEstimatedBytes;
+		this.falsePositiveRate = falsePositiveRate;
+		this.permuteUniqueDomains = permuteUniqueDomains;
+	}
+
+	public Supplier<UniqueStore> getUniqueStoreFactory() {
+		return uniqueStoreFactory;
+	}
+
+	public long getMaxEstimatedBytes() {
+		return maxEstimatedBytes;
+	}
+
+	public double getFalsePositiveRate() {
+		return falsePositiveRate;
+	}
+
+	public boolean isPermuteUniqueDomains() {
+		return permuteUniqueDomains;
+	}
+}
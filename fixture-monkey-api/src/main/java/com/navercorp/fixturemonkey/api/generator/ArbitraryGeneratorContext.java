@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.function.BiFunction;
 
 import javax.annotation.Nullable;
@@ -42,6 +43,7 @@ import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.unique.UniqueDomain;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ArbitraryGeneratorContext {
@@ -137,10 +139,14 @@ public final class ArbitraryGeneratorContext {
 		return fixtureCustomizers;
 	}
 
-	public synchronized boolean isUniqueAndCheck(PropertyPath property, Object value) {
+	public boolean isUniqueAndCheck(PropertyPath property, Object value) {
 		return monkeyGeneratorContext.isUniqueAndCheck(property, value);
 	}
 
+	public <T> T nextUnique(PropertyPath property, UniqueDomain<T> domain, Random random) {
+		return monkeyGeneratorContext.nextUnique(property, domain, random);
+	}
+
 	public void evictUnique(PropertyPath propertyPath) {
 		monkeyGeneratorContext.evictUnique(propertyPath);
 	}
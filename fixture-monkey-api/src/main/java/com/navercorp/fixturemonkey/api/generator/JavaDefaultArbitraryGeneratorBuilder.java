@@ -91,6 +91,7 @@ public final class JavaDefaultArbitraryGeneratorBuilder {
 	private ArbitraryIntrospector priorityIntrospector = JavaDefaultArbitraryGeneratorBuilder.JAVA_INTROSPECTOR;
 	private ArbitraryIntrospector containerIntrospector =
 		JavaDefaultArbitraryGeneratorBuilder.JAVA_CONTAINER_INTROSPECTOR;
+	private ArbitraryIntrospector generatedIntrospector = (context) -> ArbitraryIntrospectorResult.EMPTY;
 	private ArbitraryIntrospector objectIntrospector = BeanArbitraryIntrospector.INSTANCE;
 
 	private ArbitraryIntrospector fallbackIntrospector = (context) -> ArbitraryIntrospectorResult.EMPTY;
@@ -122,6 +123,18 @@ public final class JavaDefaultArbitraryGeneratorBuilder {
 		return this;
 	}
 
+	public JavaDefaultArbitraryGeneratorBuilder generatedIntrospector(ArbitraryIntrospector generatedIntrospector) {
+		this.generatedIntrospector = generatedIntrospector;
+		return this;
+	}
+
+	public JavaDefaultArbitraryGeneratorBuilder generatedIntrospector(
+		UnaryOperator<ArbitraryIntrospector> generatedIntrospector
+	) {
+		this.generatedIntrospector = generatedIntrospector.apply(this.generatedIntrospector);
+		return this;
+	}
+
 	public JavaDefaultArbitraryGeneratorBuilder objectIntrospector(ArbitraryIntrospector objectIntrospector) {
 		this.objectIntrospector = objectIntrospector;
 		return this;
@@ -183,6 +196,7 @@ public final class JavaDefaultArbitraryGeneratorBuilder {
 					),
 					this.priorityIntrospector,
 					this.containerIntrospector,
+					this.generatedIntrospector,
 					this.objectIntrospector,
 					this.fallbackIntrospector
 				)
@@ -0,0 +1,220 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.RegExp;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+
+/**
+ * Generates the strings matching a regular expression by a random walk over its automaton.
+ * A walk picks a length of the matching strings first, then steps only into the states
+ * which could accept in the remaining length, so no generated string is discarded.
+ * Shorter lengths are picked more often, the length is at most {@code DEFAULT_MAX_LENGTH} over the minimum.
+ * Automata are compiled once for each regular expression and length range.
+ * It is shared by the generators of {@code @Pattern} strings, it requires generex on the classpath.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class RegexGenerator {
+	private static final Map<String, String> PREDEFINED_CHARACTER_CLASSES;
+	private static final int DEFAULT_MAX_LENGTH = 255;
+	private static final ConcurrentLruCache<RegexKey, CompiledRegex> COMPILED_REGEXES = new ConcurrentLruCache<>(256);
+
+	static {
+		Map<String, String> characterClasses = new HashMap<>();
+		characterClasses.put("\\\\d", "[0-9]");
+		characterClasses.put("\\\\D", "[^0-9]");
+		characterClasses.put("\\\\s", "[ \t\n\f\r]");
+		characterClasses.put("\\\\S", "[^ \t\n\f\r]");
+		characterClasses.put("\\\\w", "[a-zA-Z_0-9]");
+		characterClasses.put("\\\\W", "[^a-zA-Z_0-9]");
+		PREDEFINED_CHARACTER_CLASSES = Collections.unmodifiableMap(characterClasses);
+	}
+
+	/**
+	 * @param regexp the regular expression the generated strings match
+	 * @param flags  the flags of the regular expression combined by bitwise or, such as the flags of {@code @Pattern}
+	 * @param min    the minimum length of the generated strings, 0 if it is null
+	 * @param max    the maximum length of the generated strings, at most 255 over the minimum if it is null
+	 */
+	public Arbitrary<String> generate(String regexp, int flags, @Nullable Integer min, @Nullable Integer max) {
+		int minLength = min != null ? Math.max(min, 0) : 0;
+		int maxLength = (int)Math.min((long)minLength + DEFAULT_MAX_LENGTH, Integer.MAX_VALUE);
+		if (max != null) {
+			maxLength = Math.min(max, maxLength);
+		}
+
+		CompiledRegex compiledRegex = COMPILED_REGEXES.computeIfAbsent(
+			new RegexKey(regexp, flags, minLength, maxLength),
+			RegexGenerator::compile
+		);
+		if (compiledRegex.lengths.length == 0) {
+			return Arbitraries.of(Collections.emptyList());
+		}
+		return Arbitraries.randomValue(compiledRegex::sample);
+	}
+
+	private static CompiledRegex compile(RegexKey regexKey) {
+		String regex = regexKey.regexp;
+		for (Map.Entry<String, String> charClass : PREDEFINED_CHARACTER_CLASSES.entrySet()) {
+			regex = regex.replaceAll(charClass.getKey(), charClass.getValue());
+		}
+
+		RegExp regExp = regexKey.flags == 0 ? new RegExp(regex) : new RegExp(regex, regexKey.flags);
+		return new CompiledRegex(regExp.toAutomaton(), regexKey.minLength, regexKey.maxLength);
+	}
+
+	private static final class CompiledRegex {
+		private final int initialState;
+		private final Transition[][] transitions;
+		private final int[][] destinations;
+		// acceptable[n][s] is whether state s could reach an accept state in exactly n steps
+		private final boolean[][] acceptable;
+		private final int[] lengths;
+
+		private CompiledRegex(Automaton automaton, int minLength, int maxLength) {
+			List<State> states = new ArrayList<>(automaton.getStates());
+			Map<State, Integer> indexes = new HashMap<>();
+			for (int i = 0; i < states.size(); i++) {
+				indexes.put(states.get(i), i);
+			}
+
+			this.initialState = indexes.get(automaton.getInitialState());
+			this.transitions = new Transition[states.size()][];
+			this.destinations = new int[states.size()][];
+			for (int i = 0; i < states.size(); i++) {
+				List<Transition> sortedTransitions = states.get(i).getSortedTransitions(false);
+				transitions[i] = sortedTransitions.toArray(new Transition[0]);
+				destinations[i] = new int[transitions[i].length];
+				for (int j = 0; j < transitions[i].length; j++) {
+					destinations[i][j] = indexes.get(transitions[i][j].getDest());
+				}
+			}
+
+			int maxSteps = Math.max(maxLength, 0);
+			this.acceptable = new boolean[maxSteps + 1][states.size()];
+			for (int i = 0; i < states.size(); i++) {
+				acceptable[0][i] = states.get(i).isAccept();
+			}
+			for (int steps = 1; steps <= maxSteps; steps++) {
+				for (int i = 0; i < states.size(); i++) {
+					for (int destination : destinations[i]) {
+						if (acceptable[steps - 1][destination]) {
+							acceptable[steps][i] = true;
+							break;
+						}
+					}
+				}
+			}
+
+			List<Integer> feasibleLengths = new ArrayList<>();
+			for (int length = minLength; length <= maxSteps; length++) {
+				if (acceptable[length][initialState]) {
+					feasibleLengths.add(length);
+				}
+			}
+			this.lengths = feasibleLengths.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		private String sample(Random random) {
+			// the index of a length is biased toward the shorter ones
+			int length = lengths[random.nextInt(random.nextInt(lengths.length) + 1)];
+			StringBuilder builder = new StringBuilder(length);
+			int state = initialState;
+			for (int remaining = length; remaining > 0; remaining--) {
+				int chosen = -1;
+				int candidates = 0;
+				for (int i = 0; i < destinations[state].length; i++) {
+					if (acceptable[remaining - 1][destinations[state][i]] && random.nextInt(++candidates) == 0) {
+						chosen = i;
+					}
+				}
+				Transition transition = transitions[state][chosen];
+				builder.append(randomChar(transition.getMin(), transition.getMax(), random));
+				state = destinations[state][chosen];
+			}
+			return builder.toString();
+		}
+
+		/**
+		 * Prefers printable ASCII characters, a negated character class would be mostly unassigned characters.
+		 */
+		private static char randomChar(char min, char max, Random random) {
+			char lower = (char)Math.max(min, ' ');
+			char upper = (char)Math.min(max, '~');
+			if (lower <= upper) {
+				return (char)(lower + random.nextInt(upper - lower + 1));
+			}
+			return (char)(min + random.nextInt(max - min + 1));
+		}
+	}
+
+	private static final class RegexKey {
+		private final String regexp;
+		private final int flags;
+		private final int minLength;
+		private final int maxLength;
+
+		private RegexKey(String regexp, int flags, int minLength, int maxLength) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.minLength = minLength;
+			this.maxLength = maxLength;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			RegexKey that = (RegexKey)obj;
+			return flags == that.flags
+				&& minLength == that.minLength
+				&& maxLength == that.maxLength
+				&& regexp.equals(that.regexp);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(regexp, flags, minLength, maxLength);
+		}
+	}
+}
@@ -19,17 +19,16 @@
 package com.navercorp.fixturemonkey.api.introspector;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
@@ -37,6 +36,7 @@ import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.property.MemberAccessors;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyCache;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -58,7 +58,7 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 		Map<String, PropertyDescriptor> propertyDescriptors = PropertyCache.getPropertyDescriptors(type);
-		BuilderCombinator<?> builderCombinator = Builders.withBuilder(() -> ReflectionUtils.newInstance(type));
+		BuilderCombinator<?> builderCombinator = Builders.withBuilder(MemberAccessors.noArgsConstructor(type));
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String originPropertyName = arbitraryProperty.getObjectProperty().getProperty().getName();
 			PropertyDescriptor propertyDescriptor = propertyDescriptors.get(originPropertyName);
@@ -70,12 +70,17 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 			String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
 			Arbitrary<?> arbitrary = childrenArbitraries.get(resolvePropertyName);
 			if (arbitrary != null) {
+				BiFunction<Object, Object, Object> writer = MemberAccessors.singleArgInvoker(writeMethod);
 				builderCombinator = builderCombinator.use(arbitrary).in((b, v) -> {
 					try {
 						if (v != null) {
-							writeMethod.invoke(b, v);
+							writer.apply(b, v);
+						}
+					} catch (Exception e) {
+						// an accessor rethrows IllegalAccessException unchecked, the rest is thrown as it is
+						if (!(e instanceof IllegalAccessException)) {
+							throw e;
 						}
-					} catch (IllegalAccessException | InvocationTargetException e) {
 						log.warn(e,
 							() -> "set bean property is failed. name: " + writeMethod.getName() + " value: " + v
 						);
@@ -20,10 +20,14 @@ package com.navercorp.fixturemonkey.api.introspector;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ReflectionUtils;
@@ -36,6 +40,7 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.CompositeProperty;
 import com.navercorp.fixturemonkey.api.property.FieldProperty;
+import com.navercorp.fixturemonkey.api.property.MemberAccessors;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -43,21 +48,12 @@ import com.navercorp.fixturemonkey.api.type.Types;
 public final class BuilderArbitraryIntrospector
 	implements ArbitraryIntrospector {
 	public static final BuilderArbitraryIntrospector INSTANCE = new BuilderArbitraryIntrospector();
-	private static final Map<Class<?>, Method> BUILDER_CACHE = new ConcurrentHashMap<>(2000);
-	private static final Map<String, Method> BUILD_FIELD_METHOD_CACHE = new ConcurrentHashMap<>(2000);
-	private static final Map<Class<?>, Method> BUILD_METHOD_CACHE = new ConcurrentHashMap<>(2000);
-	private static final Map<Class<?>, Class<?>> BUILDER_TYPE_CACHE = new ConcurrentHashMap<>(2000);
 
 	private String defaultBuildMethodName = "build";
 	private String defaultBuilderMethodName = "builder";
 	private final Map<Class<?>, String> typedBuilderMethodName = new ConcurrentHashMap<>(2000);
 	private final Map<Class<?>, String> typedBuildMethodName = new ConcurrentHashMap<>(2000);
-
-	private static void clearMethodCache() {
-		BUILDER_CACHE.clear();
-		BUILD_FIELD_METHOD_CACHE.clear();
-		BUILD_METHOD_CACHE.clear();
-	}
+	private final Map<Class<?>, BuilderPlan> builderPlans = new ConcurrentHashMap<>(2000);
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
@@ -71,92 +67,85 @@ public final class BuilderArbitraryIntrospector
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 
-		Class<?> builderType = this.getBuilderType(type);
-		Method builderMethod = BUILDER_CACHE.get(type);
+		BuilderPlan builderPlan = builderPlans.computeIfAbsent(type, this::createBuilderPlan);
 
-		BuilderCombinator<Object> builderCombinator = Builders.withBuilder(() ->
-			ReflectionUtils.invokeMethod(builderMethod, null));
+		BuilderCombinator<Object> builderCombinator = Builders.withBuilder(builderPlan.builderFactory);
 
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String methodName = getFieldName(arbitraryProperty.getObjectProperty().getProperty());
-			String buildFieldMethodName = builderType.getName() + "#" + methodName;
+			BiFunction<Object, Object, Object> buildFieldInvoker = builderPlan.buildFieldInvokers.get(methodName);
+			if (buildFieldInvoker == null) {
+				continue;
+			}
 
 			String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
 			Arbitrary<?> arbitrary = childrenArbitraries.get(resolvePropertyName);
-
-			Method method = BUILD_FIELD_METHOD_CACHE.computeIfAbsent(buildFieldMethodName, f -> {
-				Method buildFieldMethod = ReflectionUtils.findMethods(builderType, m -> m.getName().equals(
-						methodName))
-					.stream()
-					.filter(Objects::nonNull)
-					.filter(m -> m.getParameterCount() == 1)
-					.findFirst()
-					.orElse(null);
-				if (buildFieldMethod != null) {
-					buildFieldMethod.setAccessible(true);
-				}
-				return buildFieldMethod;
-			});
-			if (method != null) {
-				builderCombinator = builderCombinator.use(arbitrary)
-					.in((b, v) -> v != null ? ReflectionUtils.invokeMethod(method, b, v) : b);
-			}
+			builderCombinator = builderCombinator.use(arbitrary)
+				.in((b, v) -> v != null ? buildFieldInvoker.apply(b, v) : b);
 		}
 
-		Method buildMethod = BUILD_METHOD_CACHE.computeIfAbsent(builderType, t -> {
-			String buildMethodName = typedBuildMethodName.getOrDefault(t, defaultBuildMethodName);
-			Method method = ReflectionUtils.findMethod(builderType, buildMethodName)
-				.orElseThrow(() -> new IllegalStateException(
-					"Can not find BuilderCombiner build method for clazz. clazz: " + type));
-			method.setAccessible(true);
-			return method;
-		});
+		Function<Object, Object> buildInvoker = builderPlan.buildInvoker;
 		return new ArbitraryIntrospectorResult(builderCombinator.build(b -> {
 			if (b == null) {
 				return null;
 			}
-			return ReflectionUtils.invokeMethod(buildMethod, b);
+			return buildInvoker.apply(b);
 		}));
 	}
 
 	public void setDefaultBuilderMethodName(String defaultBuilderMethodName) {
 		this.defaultBuilderMethodName = defaultBuilderMethodName;
-		clearMethodCache();
+		builderPlans.clear();
 	}
 
 	public void setDefaultBuildMethodName(String defaultBuildMethodName) {
 		this.defaultBuildMethodName = defaultBuildMethodName;
-		clearMethodCache();
+		builderPlans.clear();
 	}
 
 	public void setBuilderMethodName(Class<?> type, String builderMethodName) {
 		this.typedBuilderMethodName.put(type, builderMethodName);
-		clearMethodCache();
+		builderPlans.clear();
 	}
 
 	public void setBuildMethodName(Class<?> type, String buildMethodName) {
 		this.typedBuildMethodName.put(type, buildMethodName);
-		clearMethodCache();
+		builderPlans.clear();
 	}
 
-	private Class<?> getBuilderType(Class<?> objectType) {
-		Method builderMethod = BUILDER_CACHE.computeIfAbsent(objectType, t -> {
-			String builderMethodName = typedBuilderMethodName.getOrDefault(t, defaultBuilderMethodName);
-			Method method = ReflectionUtils.findMethod(t, builderMethodName).orElse(null);
-			if (method != null) {
-				method.setAccessible(true);
-			}
-			return method;
-		});
+	private BuilderPlan createBuilderPlan(Class<?> objectType) {
+		String builderMethodName = typedBuilderMethodName.getOrDefault(objectType, defaultBuilderMethodName);
+		Method builderMethod = ReflectionUtils.findMethod(objectType, builderMethodName)
+			.orElseThrow(() -> new IllegalArgumentException("Class has no builder class. " + objectType.getName()));
+		Supplier<Object> builderFactory = MemberAccessors.staticInvoker(builderMethod);
+		Class<?> builderType = getBuilderType(builderMethod, builderFactory);
 
-		if (builderMethod == null) {
-			throw new IllegalArgumentException("Class has no builder class. " + objectType.getName());
+		Map<String, BiFunction<Object, Object, Object>> buildFieldInvokers = new HashMap<>();
+		for (Method method : ReflectionUtils.findMethods(builderType, m -> m.getParameterCount() == 1)) {
+			buildFieldInvokers.computeIfAbsent(method.getName(), name -> MemberAccessors.singleArgInvoker(method));
 		}
 
-		return BUILDER_TYPE_CACHE.computeIfAbsent(objectType, t -> {
-			Object builder = ReflectionUtils.invokeMethod(builderMethod, null);
-			return builder.getClass();
-		});
+		String buildMethodName = typedBuildMethodName.getOrDefault(builderType, defaultBuildMethodName);
+		Method buildMethod = ReflectionUtils.findMethod(builderType, buildMethodName)
+			.orElseThrow(() -> new IllegalStateException(
+				"Can not find BuilderCombiner build method for clazz. clazz: " + objectType));
+
+		return new BuilderPlan(
+			builderFactory,
+			Collections.unmodifiableMap(buildFieldInvokers),
+			MemberAccessors.noArgsInvoker(buildMethod)
+		);
+	}
+
+	/**
+	 * The declared return type of a builder method is the builder type unless it is abstract.
+	 */
+	private Class<?> getBuilderType(Method builderMethod, Supplier<Object> builderFactory) {
+		Class<?> returnType = builderMethod.getReturnType();
+		if (!returnType.isInterface() && !Modifier.isAbstract(returnType.getModifiers())) {
+			return returnType;
+		}
+		return builderFactory.get().getClass();
 	}
 
 	private String getFieldName(Property property) {
@@ -170,4 +159,23 @@ public final class BuilderArbitraryIntrospector
 		}
 		return property.getName();
 	}
+
+	/**
+	 * The accessors to build an instance of a type, they are resolved once per type.
+	 */
+	private static final class BuilderPlan {
+		private final Supplier<Object> builderFactory;
+		private final Map<String, BiFunction<Object, Object, Object>> buildFieldInvokers;
+		private final Function<Object, Object> buildInvoker;
+
+		private BuilderPlan(
+			Supplier<Object> builderFactory,
+			Map<String, BiFunction<Object, Object, Object>> buildFieldInvokers,
+			Function<Object, Object> buildInvoker
+		) {
+			this.builderFactory = builderFactory;
+			this.buildFieldInvokers = buildFieldInvokers;
+			this.buildInvoker = buildInvoker;
+		}
+	}
 }
@@ -26,15 +26,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.property.MemberAccessors;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -61,6 +62,7 @@ public final class ConstructorPropertiesArbitraryIntrospector implements Arbitra
 		Constructor<?> primaryConstructor = parameterNamesByConstructor.getKey();
 		String[] parameterNames = parameterNamesByConstructor.getValue();
 		int parameterSize = parameterNames.length;
+		Function<Object[], Object> constructor = MemberAccessors.constructor(primaryConstructor);
 
 		Builders.BuilderCombinator<List<Object>> builderCombinator =
 			Builders.withBuilder(() -> new ArrayList<>(parameterSize));
@@ -76,7 +78,7 @@ public final class ConstructorPropertiesArbitraryIntrospector implements Arbitra
 
 		return new ArbitraryIntrospectorResult(
 			builderCombinator.build(
-				list -> ReflectionUtils.newInstance(primaryConstructor, list.toArray())
+				list -> constructor.apply(list.toArray())
 			)
 		);
 	}
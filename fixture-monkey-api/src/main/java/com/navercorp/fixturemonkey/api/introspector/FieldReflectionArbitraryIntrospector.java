@@ -21,12 +21,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
@@ -34,6 +34,7 @@ import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.property.MemberAccessors;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyCache;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -55,7 +56,7 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 		Map<String, Field> fields = PropertyCache.getFields(type);
-		BuilderCombinator<?> builderCombinator = Builders.withBuilder(() -> ReflectionUtils.newInstance(type));
+		BuilderCombinator<?> builderCombinator = Builders.withBuilder(MemberAccessors.noArgsConstructor(type));
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String originPropertyName = arbitraryProperty.getObjectProperty().getProperty().getName();
 			Field field = fields.get(originPropertyName);
@@ -66,12 +67,17 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 
 			String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
 			Arbitrary<?> arbitrary = childrenArbitraries.get(resolvePropertyName);
+			BiConsumer<Object, Object> fieldSetter = MemberAccessors.fieldSetter(field);
 			builderCombinator = builderCombinator.use(arbitrary).in((object, value) -> {
 				try {
 					if (value != null) {
-						field.set(object, value);
+						fieldSetter.accept(object, value);
+					}
+				} catch (Exception e) {
+					// an accessor rethrows IllegalAccessException unchecked, the rest is thrown as it is
+					if (!(e instanceof IllegalAccessException)) {
+						throw e;
 					}
-				} catch (IllegalAccessException e) {
 					log.warn(e,
 						() -> "set field by reflection is failed. field: " + resolvePropertyName + " value: " + value
 					);
@@ -0,0 +1,36 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * An introspector generated at compile time for a type, it constructs the type without reflection.
+ * Implementations are found by {@link java.util.ServiceLoader}.
+ *
+ * @see ServiceLoaderArbitraryIntrospector
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public interface GeneratedArbitraryIntrospector extends ArbitraryIntrospector {
+	/**
+	 * Returns the type it introspects, it is matched exactly.
+	 */
+	Class<?> getTargetType();
+}
@@ -0,0 +1,89 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.matcher.Matcher;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Introspects the types which have a {@link GeneratedArbitraryIntrospector} found by {@link ServiceLoader}.
+ * The introspectors are loaded once by the class loader given or the context class loader.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class ServiceLoaderArbitraryIntrospector implements ArbitraryIntrospector, Matcher {
+	private final ClassLoader classLoader;
+	private volatile Map<Class<?>, ArbitraryIntrospector> introspectorsByType;
+
+	public ServiceLoaderArbitraryIntrospector() {
+		this(Thread.currentThread().getContextClassLoader());
+	}
+
+	public ServiceLoaderArbitraryIntrospector(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	@Override
+	public boolean match(Property property) {
+		return getIntrospectorsByType().containsKey(Types.getActualType(property.getType()));
+	}
+
+	@Override
+	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
+		ArbitraryIntrospector introspector = getIntrospectorsByType().get(
+			Types.getActualType(context.getProperty().getType())
+		);
+		if (introspector == null) {
+			return ArbitraryIntrospectorResult.EMPTY;
+		}
+		return introspector.introspect(context);
+	}
+
+	private Map<Class<?>, ArbitraryIntrospector> getIntrospectorsByType() {
+		Map<Class<?>, ArbitraryIntrospector> introspectors = this.introspectorsByType;
+		if (introspectors == null) {
+			synchronized (this) {
+				introspectors = this.introspectorsByType;
+				if (introspectors == null) {
+					introspectors = load();
+					this.introspectorsByType = introspectors;
+				}
+			}
+		}
+		return introspectors;
+	}
+
+	private Map<Class<?>, ArbitraryIntrospector> load() {
+		Map<Class<?>, ArbitraryIntrospector> introspectors = new HashMap<>();
+		for (GeneratedArbitraryIntrospector introspector :
+			ServiceLoader.load(GeneratedArbitraryIntrospector.class, classLoader)) {
+			introspectors.putIfAbsent(introspector.getTargetType(), introspector);
+		}
+		return Collections.unmodifiableMap(introspectors);
+	}
+}
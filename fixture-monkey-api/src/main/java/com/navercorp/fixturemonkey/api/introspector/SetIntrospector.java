@@ -36,6 +36,7 @@ import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.unique.FilteredMonkeyArbitrary;
+import com.navercorp.fixturemonkey.api.unique.PermutedUniqueArbitrary;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class SetIntrospector implements ArbitraryIntrospector, Matcher {
@@ -63,16 +64,20 @@ public final class SetIntrospector implements ArbitraryIntrospector, Matcher {
 		}
 
 		List<Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts().getArbitraries().stream()
-			.map(arbitrary ->
-				new FilteredMonkeyArbitrary<>(
+			.map(arbitrary -> {
+				if (arbitrary instanceof PermutedUniqueArbitrary) {
+					return arbitrary;
+				}
+
+				return new FilteredMonkeyArbitrary<>(
 					arbitrary,
 					it -> context.isUniqueAndCheck(
 						context.getPathProperty(),
 						it
 					),
 					MAX_TRIES
-				)
-			)
+				);
+			})
 			.collect(Collectors.toList());
 
 		MonkeyCombineArbitrary monkeyCombineArbitrary = new MonkeyCombineArbitrary(
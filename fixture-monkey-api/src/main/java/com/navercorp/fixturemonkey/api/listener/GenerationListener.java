@@ -0,0 +1,59 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import java.lang.reflect.Type;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+
+/**
+ * Listens to the phases of generating fixtures, it is called from every thread sampling fixtures.
+ * Every callback is optional, implementations should return quickly since they are called per sample.
+ *
+ * @see InMemoryGenerationRecorder
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public interface GenerationListener {
+	/**
+	 * Called after a phase is finished.
+	 *
+	 * @param rootType       the type of the fixture being generated
+	 * @param phase          the finished phase
+	 * @param elapsedNanos   the elapsed time of the phase
+	 * @param allocatedBytes the bytes allocated by the current thread during the phase,
+	 *                       negative if measuring it is not supported or not enabled in the JVM
+	 */
+	default void onPhase(Type rootType, GenerationPhase phase, long elapsedNanos, long allocatedBytes) {
+	}
+
+	/**
+	 * Called when the cached arbitrary of a property is looked up.
+	 */
+	default void onCacheAccess(Property property, boolean hit) {
+	}
+
+	/**
+	 * Called when a sampled fixture is filtered out by validation and sampled again.
+	 */
+	default void onFilterMiss(Type rootType) {
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * The phases of generating a fixture reported to {@link GenerationListener}.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public enum GenerationPhase {
+	/**
+	 * Traversing the type of a root into a tree of nodes.
+	 */
+	TRAVERSE,
+
+	/**
+	 * Applying manipulators such as set, size or setNull to the traversed tree.
+	 */
+	MANIPULATE,
+
+	/**
+	 * Generating the arbitrary of the whole tree, it includes {@link #INTROSPECT} of each node.
+	 */
+	GENERATE,
+
+	/**
+	 * Generating the arbitrary of a single node by its introspector, excluding its children.
+	 * The introspection of the children nested in it is reported apart and subtracted from it.
+	 */
+	INTROSPECT,
+
+	/**
+	 * Validating a sampled fixture by {@code ArbitraryValidator}.
+	 */
+	VALIDATE,
+
+	/**
+	 * Sampling a fixture, it includes every retry filtered by validation.
+	 */
+	SAMPLE
+}
@@ -0,0 +1,119 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Measures a phase and reports it to {@link GenerationListener}, it does nothing if there is no listener.
+ * A phase nested in the same phase such as {@link GenerationPhase#INTROSPECT} of a child node is reported apart,
+ * its time and allocation are subtracted from the enclosing one.
+ * Allocation is reported only if measuring allocation of threads is enabled in the JVM, otherwise it is -1.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class GenerationPhases {
+	private static final ThreadLocal<Measurement[]> MEASUREMENTS_BY_PHASE =
+		ThreadLocal.withInitial(() -> new Measurement[GenerationPhase.values().length]);
+
+	private GenerationPhases() {
+	}
+
+	public static <T> T measure(
+		@Nullable GenerationListener listener,
+		Type rootType,
+		GenerationPhase phase,
+		Supplier<T> action
+	) {
+		if (listener == null) {
+			return action.get();
+		}
+
+		Measurement[] measurementsByPhase = MEASUREMENTS_BY_PHASE.get();
+		Measurement enclosing = measurementsByPhase[phase.ordinal()];
+		Measurement measurement = new Measurement();
+		measurementsByPhase[phase.ordinal()] = measurement;
+
+		long allocatedBytes = currentThreadAllocatedBytes();
+		long startNanos = System.nanoTime();
+		try {
+			return action.get();
+		} finally {
+			long elapsedNanos = System.nanoTime() - startNanos;
+			long allocatedBytesAfter = currentThreadAllocatedBytes();
+			long phaseAllocatedBytes = allocatedBytes < 0 || allocatedBytesAfter < 0
+				? -1
+				: allocatedBytesAfter - allocatedBytes;
+
+			measurementsByPhase[phase.ordinal()] = enclosing;
+			if (enclosing != null) {
+				enclosing.nestedNanos += elapsedNanos;
+				enclosing.nestedAllocatedBytes += Math.max(phaseAllocatedBytes, 0);
+			}
+
+			listener.onPhase(
+				rootType,
+				phase,
+				elapsedNanos - measurement.nestedNanos,
+				phaseAllocatedBytes < 0 ? -1 : phaseAllocatedBytes - measurement.nestedAllocatedBytes
+			);
+		}
+	}
+
+	private static long currentThreadAllocatedBytes() {
+		com.sun.management.ThreadMXBean threadMxBean = ThreadMxBeanHolder.THREAD_MX_BEAN;
+		if (threadMxBean == null || !threadMxBean.isThreadAllocatedMemoryEnabled()) {
+			return -1;
+		}
+		return threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static final class Measurement {
+		private long nestedNanos;
+		private long nestedAllocatedBytes;
+	}
+
+	/**
+	 * Resolves the bean at the first measurement with a listener, the JVM settings are left as they are.
+	 */
+	private static final class ThreadMxBeanHolder {
+		@Nullable
+		private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMxBean();
+
+		@Nullable
+		private static com.sun.management.ThreadMXBean getThreadMxBean() {
+			try {
+				java.lang.management.ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+				if (threadMxBean instanceof com.sun.management.ThreadMXBean
+					&& ((com.sun.management.ThreadMXBean)threadMxBean).isThreadAllocatedMemorySupported()) {
+					return (com.sun.management.ThreadMXBean)threadMxBean;
+				}
+			} catch (LinkageError | UnsupportedOperationException | SecurityException ex) {
+				// measuring allocation is optional
+			}
+			return null;
+		}
+	}
+}
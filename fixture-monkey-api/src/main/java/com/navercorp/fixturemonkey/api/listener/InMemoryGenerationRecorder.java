@@ -0,0 +1,226 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+
+/**
+ * Records the phases of generating fixtures in memory by the type of root.
+ * Each phase keeps a count, the total and maximum elapsed time, the allocated bytes
+ * and a latency histogram with power of two microsecond buckets.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class InMemoryGenerationRecorder implements GenerationListener {
+	private final Map<String, TypeRecord> recordsByType = new ConcurrentHashMap<>();
+	private final LongAdder cacheHitCount = new LongAdder();
+	private final LongAdder cacheMissCount = new LongAdder();
+
+	@Override
+	public void onPhase(Type rootType, GenerationPhase phase, long elapsedNanos, long allocatedBytes) {
+		getRecord(rootType).getPhaseRecord(phase).record(elapsedNanos, allocatedBytes);
+	}
+
+	@Override
+	public void onCacheAccess(Property property, boolean hit) {
+		if (hit) {
+			cacheHitCount.increment();
+		} else {
+			cacheMissCount.increment();
+		}
+	}
+
+	@Override
+	public void onFilterMiss(Type rootType) {
+		getRecord(rootType).filterMissCount.increment();
+	}
+
+	public PhaseRecord getPhaseRecord(Type rootType, GenerationPhase phase) {
+		return getRecord(rootType).getPhaseRecord(phase);
+	}
+
+	public long getFilterMissCount(Type rootType) {
+		return getRecord(rootType).filterMissCount.sum();
+	}
+
+	public long getCacheHitCount() {
+		return cacheHitCount.sum();
+	}
+
+	public long getCacheMissCount() {
+		return cacheMissCount.sum();
+	}
+
+	public void clear() {
+		recordsByType.clear();
+		cacheHitCount.reset();
+		cacheMissCount.reset();
+	}
+
+	/**
+	 * Returns a table of the recorded types, the slowest type in total comes first.
+	 */
+	public String report() {
+		List<Map.Entry<String, TypeRecord>> entries = new ArrayList<>(recordsByType.entrySet());
+		entries.sort(Comparator.comparingLong(
+			(Map.Entry<String, TypeRecord> it) -> it.getValue().getPhaseRecord(GenerationPhase.SAMPLE).getTotalNanos()
+		).reversed());
+
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format(
+			Locale.ROOT,
+			"%-60s %8s %10s %8s %8s %10s %10s %10s %10s %10s %10s%n",
+			"type", "samples", "total(ms)", "p50(us)", "p99(us)", "traverse", "manipulate", "generate",
+			"validate", "alloc(KB)", "misses"
+		));
+		for (Map.Entry<String, TypeRecord> entry : entries) {
+			TypeRecord record = entry.getValue();
+			PhaseRecord sample = record.getPhaseRecord(GenerationPhase.SAMPLE);
+			builder.append(String.format(
+				Locale.ROOT,
+				"%-60s %8d %10.1f %8d %8d %10.1f %10.1f %10.1f %10.1f %10d %10d%n",
+				entry.getKey(),
+				sample.getCount(),
+				toMillis(sample.getTotalNanos()),
+				sample.getPercentileMicros(0.5d),
+				sample.getPercentileMicros(0.99d),
+				toMillis(record.getPhaseRecord(GenerationPhase.TRAVERSE).getTotalNanos()),
+				toMillis(record.getPhaseRecord(GenerationPhase.MANIPULATE).getTotalNanos()),
+				toMillis(record.getPhaseRecord(GenerationPhase.GENERATE).getTotalNanos()),
+				toMillis(record.getPhaseRecord(GenerationPhase.VALIDATE).getTotalNanos()),
+				sample.getAllocatedBytes() / 1024,
+				record.filterMissCount.sum()
+			));
+		}
+		builder.append(String.format(
+			Locale.ROOT,
+			"arbitrary cache hits: %d, misses: %d%n",
+			getCacheHitCount(),
+			getCacheMissCount()
+		));
+		return builder.toString();
+	}
+
+	private TypeRecord getRecord(Type rootType) {
+		return recordsByType.computeIfAbsent(rootType.getTypeName(), it -> new TypeRecord());
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000d;
+	}
+
+	private static final class TypeRecord {
+		private final Map<GenerationPhase, PhaseRecord> phaseRecords = new EnumMap<>(GenerationPhase.class);
+		private final LongAdder filterMissCount = new LongAdder();
+
+		private TypeRecord() {
+			for (GenerationPhase phase : GenerationPhase.values()) {
+				phaseRecords.put(phase, new PhaseRecord());
+			}
+		}
+
+		private PhaseRecord getPhaseRecord(GenerationPhase phase) {
+			return phaseRecords.get(phase);
+		}
+	}
+
+	public static final class PhaseRecord {
+		private static final int BUCKET_SIZE = 40;
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+		private final LongAdder allocatedBytes = new LongAdder();
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_SIZE);
+
+		private PhaseRecord() {
+		}
+
+		private void record(long elapsedNanos, long allocatedBytes) {
+			this.count.increment();
+			this.totalNanos.add(elapsedNanos);
+			this.maxNanos.accumulate(elapsedNanos);
+			if (allocatedBytes > 0) {
+				this.allocatedBytes.add(allocatedBytes);
+			}
+			this.buckets.incrementAndGet(toBucket(elapsedNanos / 1000));
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getTotalNanos() {
+			return totalNanos.sum();
+		}
+
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+
+		public long getAllocatedBytes() {
+			return allocatedBytes.sum();
+		}
+
+		/**
+		 * Returns the upper bound of the histogram bucket which the given percentile falls in.
+		 */
+		public long getPercentileMicros(double percentile) {
+			long total = 0;
+			for (int i = 0; i < BUCKET_SIZE; i++) {
+				total += buckets.get(i);
+			}
+			if (total == 0) {
+				return 0;
+			}
+
+			long threshold = (long)Math.ceil(total * percentile);
+			long accumulated = 0;
+			for (int i = 0; i < BUCKET_SIZE; i++) {
+				accumulated += buckets.get(i);
+				if (accumulated >= threshold) {
+					return 1L << i;
+				}
+			}
+			return 1L << (BUCKET_SIZE - 1);
+		}
+
+		private static int toBucket(long micros) {
+			if (micros <= 1) {
+				return 0;
+			}
+			int bucket = 64 - Long.numberOfLeadingZeros(micros - 1);
+			return Math.min(bucket, BUCKET_SIZE - 1);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Finds the operator of the first matching {@link MatcherOperator} without scanning every matcher.
+ * Matchers of {@link ExactTypeMatcher} and {@link AssignableTypeMatcher} depend only on the actual type,
+ * they are resolved once per type. Other matchers are checked for each property in the registered order.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class MatcherOperatorIndex<T> {
+	private final List<MatcherOperator<T>> matcherOperators;
+	private final boolean hasTypeMatcher;
+	private final Map<Class<?>, Candidates<T>> candidatesByType = new ConcurrentHashMap<>();
+
+	public MatcherOperatorIndex(List<MatcherOperator<T>> matcherOperators) {
+		this.matcherOperators = matcherOperators;
+		this.hasTypeMatcher = matcherOperators.stream().anyMatch(it -> getTypeMatcher(it) != null);
+	}
+
+	@Nullable
+	public T findFirst(Property property) {
+		if (!hasTypeMatcher) {
+			return findFirst(matcherOperators, property);
+		}
+
+		Class<?> actualType = Types.getActualType(property.getType());
+		Candidates<T> candidates = candidatesByType.computeIfAbsent(actualType, this::getCandidates);
+		T operator = findFirst(candidates.matchersBefore, property);
+		if (operator != null) {
+			return operator;
+		}
+
+		return candidates.typeMatched != null ? candidates.typeMatched.getOperator() : null;
+	}
+
+	/**
+	 * Type matchers which do not match the given type are excluded,
+	 * the rest after the first matched type matcher would never be reached.
+	 */
+	private Candidates<T> getCandidates(Class<?> actualType) {
+		List<MatcherOperator<T>> matchersBefore = new ArrayList<>();
+		for (MatcherOperator<T> matcherOperator : matcherOperators) {
+			Matcher typeMatcher = getTypeMatcher(matcherOperator);
+			if (typeMatcher == null) {
+				matchersBefore.add(matcherOperator);
+			} else if (isTypeMatched(typeMatcher, actualType)) {
+				return new Candidates<>(matchersBefore, matcherOperator);
+			}
+		}
+		return new Candidates<>(matchersBefore, null);
+	}
+
+	@Nullable
+	private static <T> T findFirst(List<MatcherOperator<T>> matcherOperators, Property property) {
+		for (MatcherOperator<T> matcherOperator : matcherOperators) {
+			if (matcherOperator.match(property)) {
+				return matcherOperator.getOperator();
+			}
+		}
+		return null;
+	}
+
+	@Nullable
+	private static Matcher getTypeMatcher(MatcherOperator<?> matcherOperator) {
+		Matcher matcher = matcherOperator.getMatcher();
+		while (matcher instanceof MatcherOperator) {
+			matcher = ((MatcherOperator<?>)matcher).getMatcher();
+		}
+
+		if (matcher instanceof ExactTypeMatcher || matcher instanceof AssignableTypeMatcher) {
+			return matcher;
+		}
+		return null;
+	}
+
+	private static boolean isTypeMatched(Matcher typeMatcher, Class<?> actualType) {
+		if (typeMatcher instanceof ExactTypeMatcher) {
+			return ((ExactTypeMatcher)typeMatcher).getType() == actualType;
+		}
+		return ((AssignableTypeMatcher)typeMatcher).getType().isAssignableFrom(actualType);
+	}
+
+	private static final class Candidates<T> {
+		private final List<MatcherOperator<T>> matchersBefore;
+		@Nullable
+		private final MatcherOperator<T> typeMatched;
+
+		private Candidates(List<MatcherOperator<T>> matchersBefore, @Nullable MatcherOperator<T> typeMatched) {
+			this.matchersBefore = matchersBefore;
+			this.typeMatched = typeMatched;
+		}
+	}
+}
@@ -61,6 +61,7 @@ import com.navercorp.fixturemonkey.api.generator.SingleValueObjectPropertyGenera
 import com.navercorp.fixturemonkey.api.generator.StreamContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.TupleLikeElementsPropertyGenerator;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperatorIndex;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -80,6 +81,8 @@ public final class GenerateOptions {
 		DefaultObjectPropertyGenerator.INSTANCE;
 	public static final PropertyNameResolver DEFAULT_PROPERTY_NAME_RESOLVER = PropertyNameResolver.IDENTITY;
 	public static final int DEFAULT_ARBITRARY_CONTAINER_MAX_SIZE = 3;
+	public static final int DEFAULT_MAX_RECURSION_DEPTH = 3;
+	public static final int DEFAULT_MAX_NODE_COUNT = Integer.MAX_VALUE;
 	public static final GenerateOptions DEFAULT_GENERATE_OPTIONS = GenerateOptions.builder().build();
 
 	static {
@@ -112,6 +115,16 @@ public final class GenerateOptions {
 
 	@SuppressWarnings("rawtypes")
 	private final List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers;
+	private final int maxRecursionDepth;
+	private final int maxNodeCount;
+
+	private final MatcherOperatorIndex<PropertyGenerator> propertyGeneratorsIndex;
+	private final MatcherOperatorIndex<ObjectPropertyGenerator> objectPropertyGeneratorsIndex;
+	private final MatcherOperatorIndex<ContainerPropertyGenerator> containerPropertyGeneratorsIndex;
+	private final MatcherOperatorIndex<PropertyNameResolver> propertyNameResolversIndex;
+	private final MatcherOperatorIndex<NullInjectGenerator> nullInjectGeneratorsIndex;
+	private final MatcherOperatorIndex<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGeneratorsIndex;
+	private final MatcherOperatorIndex<ArbitraryGenerator> arbitraryGeneratorsIndex;
 
 	@SuppressWarnings("rawtypes")
 	public GenerateOptions(
@@ -129,6 +142,52 @@ public final class GenerateOptions {
 		List<MatcherOperator<ArbitraryGenerator>> arbitraryGenerators,
 		ArbitraryGenerator defaultArbitraryGenerator,
 		List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers
+	) {
+		this(
+			propertyGenerators,
+			defaultPropertyGenerator,
+			objectPropertyGenerators,
+			defaultObjectPropertyGenerator,
+			containerPropertyGenerators,
+			propertyNameResolvers,
+			defaultPropertyNameResolver,
+			nullInjectGenerators,
+			defaultNullInjectGenerator,
+			arbitraryContainerInfoGenerators,
+			defaultArbitraryContainerSize,
+			defaultArbitraryContainerInfo,
+			arbitraryGenerators,
+			defaultArbitraryGenerator,
+			arbitraryCustomizers,
+			DEFAULT_MAX_RECURSION_DEPTH,
+			DEFAULT_MAX_NODE_COUNT
+		);
+	}
+
+	/**
+	 * @param maxRecursionDepth how many times a type could be nested in itself,
+	 *                          a property nested deeper is not traversed and generated as {@code null}
+	 * @param maxNodeCount      how many nodes could be traversed for a fixture,
+	 *                          a property traversed after the count is reached is generated as {@code null}
+	 */
+	@SuppressWarnings("rawtypes")
+	public GenerateOptions(
+		List<MatcherOperator<PropertyGenerator>> propertyGenerators,
+		PropertyGenerator defaultPropertyGenerator,
+		List<MatcherOperator<ObjectPropertyGenerator>> objectPropertyGenerators,
+		ObjectPropertyGenerator defaultObjectPropertyGenerator,
+		List<MatcherOperator<ContainerPropertyGenerator>> containerPropertyGenerators,
+		List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers,
+		PropertyNameResolver defaultPropertyNameResolver,
+		List<MatcherOperator<NullInjectGenerator>> nullInjectGenerators,
+		NullInjectGenerator defaultNullInjectGenerator,
+		List<MatcherOperator<ArbitraryContainerInfoGenerator>> arbitraryContainerInfoGenerators,
+		int defaultArbitraryContainerSize, ArbitraryContainerInfo defaultArbitraryContainerInfo,
+		List<MatcherOperator<ArbitraryGenerator>> arbitraryGenerators,
+		ArbitraryGenerator defaultArbitraryGenerator,
+		List<MatcherOperator<FixtureCustomizer>> arbitraryCustomizers,
+		int maxRecursionDepth,
+		int maxNodeCount
 	) {
 		this.propertyGenerators = propertyGenerators;
 		this.defaultPropertyGenerator = defaultPropertyGenerator;
@@ -145,6 +204,15 @@ public final class GenerateOptions {
 		this.arbitraryGenerators = arbitraryGenerators;
 		this.defaultArbitraryGenerator = defaultArbitraryGenerator;
 		this.arbitraryCustomizers = arbitraryCustomizers;
+		this.maxRecursionDepth = maxRecursionDepth;
+		this.maxNodeCount = maxNodeCount;
+		this.propertyGeneratorsIndex = new MatcherOperatorIndex<>(propertyGenerators);
+		this.objectPropertyGeneratorsIndex = new MatcherOperatorIndex<>(objectPropertyGenerators);
+		this.containerPropertyGeneratorsIndex = new MatcherOperatorIndex<>(containerPropertyGenerators);
+		this.propertyNameResolversIndex = new MatcherOperatorIndex<>(propertyNameResolvers);
+		this.nullInjectGeneratorsIndex = new MatcherOperatorIndex<>(nullInjectGenerators);
+		this.arbitraryContainerInfoGeneratorsIndex = new MatcherOperatorIndex<>(arbitraryContainerInfoGenerators);
+		this.arbitraryGeneratorsIndex = new MatcherOperatorIndex<>(arbitraryGenerators);
 	}
 
 	public static GenerateOptionsBuilder builder() {
@@ -156,11 +224,8 @@ public final class GenerateOptions {
 	}
 
 	public PropertyGenerator getPropertyGenerator(Property property) {
-		return this.getPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultPropertyGenerator());
+		PropertyGenerator propertyGenerator = propertyGeneratorsIndex.findFirst(property);
+		return propertyGenerator != null ? propertyGenerator : this.getDefaultPropertyGenerator();
 	}
 
 	public PropertyGenerator getDefaultPropertyGenerator() {
@@ -172,11 +237,8 @@ public final class GenerateOptions {
 	}
 
 	public ObjectPropertyGenerator getObjectPropertyGenerator(Property property) {
-		return this.getObjectPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultObjectPropertyGenerator());
+		ObjectPropertyGenerator objectPropertyGenerator = objectPropertyGeneratorsIndex.findFirst(property);
+		return objectPropertyGenerator != null ? objectPropertyGenerator : this.getDefaultObjectPropertyGenerator();
 	}
 
 	public ObjectPropertyGenerator getDefaultObjectPropertyGenerator() {
@@ -189,11 +251,7 @@ public final class GenerateOptions {
 
 	@Nullable
 	public ContainerPropertyGenerator getContainerPropertyGenerator(Property property) {
-		return this.getContainerPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(null);
+		return containerPropertyGeneratorsIndex.findFirst(property);
 	}
 
 	public List<MatcherOperator<PropertyNameResolver>> getPropertyNameResolvers() {
@@ -201,11 +259,8 @@ public final class GenerateOptions {
 	}
 
 	public PropertyNameResolver getPropertyNameResolver(Property property) {
-		return this.getPropertyNameResolvers().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultPropertyNameResolver());
+		PropertyNameResolver propertyNameResolver = propertyNameResolversIndex.findFirst(property);
+		return propertyNameResolver != null ? propertyNameResolver : this.getDefaultPropertyNameResolver();
 	}
 
 	public PropertyNameResolver getDefaultPropertyNameResolver() {
@@ -217,11 +272,8 @@ public final class GenerateOptions {
 	}
 
 	public NullInjectGenerator getNullInjectGenerator(Property property) {
-		return this.getNullInjectGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultNullInjectGenerator());
+		NullInjectGenerator nullInjectGenerator = nullInjectGeneratorsIndex.findFirst(property);
+		return nullInjectGenerator != null ? nullInjectGenerator : this.getDefaultNullInjectGenerator();
 	}
 
 	public NullInjectGenerator getDefaultNullInjectGenerator() {
@@ -233,11 +285,12 @@ public final class GenerateOptions {
 	}
 
 	public ArbitraryContainerInfoGenerator getArbitraryContainerInfoGenerator(Property property) {
-		return this.getArbitraryContainerInfoGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(context -> this.getDefaultArbitraryContainerInfo());
+		ArbitraryContainerInfoGenerator arbitraryContainerInfoGenerator =
+			arbitraryContainerInfoGeneratorsIndex.findFirst(property);
+		if (arbitraryContainerInfoGenerator != null) {
+			return arbitraryContainerInfoGenerator;
+		}
+		return context -> this.getDefaultArbitraryContainerInfo();
 	}
 
 	public int getDefaultArbitraryContainerSize() {
@@ -253,11 +306,8 @@ public final class GenerateOptions {
 	}
 
 	public ArbitraryGenerator getArbitraryGenerator(Property property) {
-		return this.getArbitraryGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultArbitraryGenerator());
+		ArbitraryGenerator arbitraryGenerator = arbitraryGeneratorsIndex.findFirst(property);
+		return arbitraryGenerator != null ? arbitraryGenerator : this.getDefaultArbitraryGenerator();
 	}
 
 	public ArbitraryGenerator getDefaultArbitraryGenerator() {
@@ -269,6 +319,14 @@ public final class GenerateOptions {
 		return arbitraryCustomizers;
 	}
 
+	public int getMaxRecursionDepth() {
+		return maxRecursionDepth;
+	}
+
+	public int getMaxNodeCount() {
+		return maxNodeCount;
+	}
+
 	public GenerateOptionsBuilder toBuilder() {
 		return builder()
 			.defaultPropertyGenerator(defaultPropertyGenerator)
@@ -283,7 +341,9 @@ public final class GenerateOptions {
 			.defaultArbitraryContainerMaxSize(this.defaultArbitraryContainerSize)
 			.defaultArbitraryContainerInfo(this.defaultArbitraryContainerInfo)
 			.arbitraryGenerators(new ArrayList<>(this.arbitraryGenerators))
-			.defaultArbitraryGenerator(this.defaultArbitraryGenerator);
+			.defaultArbitraryGenerator(this.defaultArbitraryGenerator)
+			.maxRecursionDepth(this.maxRecursionDepth)
+			.maxNodeCount(this.maxNodeCount);
 	}
 
 	private static List<MatcherOperator<ObjectPropertyGenerator>> getDefaultObjectPropertyGenerators(
@@ -82,6 +82,8 @@ public final class GenerateOptionsBuilder {
 	private boolean defaultNotNull = false;
 	private boolean nullableContainer = false;
 	private boolean nullableElement = false;
+	private int maxRecursionDepth = GenerateOptions.DEFAULT_MAX_RECURSION_DEPTH;
+	private int maxNodeCount = GenerateOptions.DEFAULT_MAX_NODE_COUNT;
 	private UnaryOperator<NullInjectGenerator> defaultNullInjectGeneratorOperator = it -> it;
 
 	GenerateOptionsBuilder() {
@@ -398,6 +400,13 @@ public final class GenerateOptionsBuilder {
 		return this;
 	}
 
+	public GenerateOptionsBuilder generatedIntrospector(
+		UnaryOperator<ArbitraryIntrospector> generatedIntrospector
+	) {
+		this.javaDefaultArbitraryGeneratorBuilder.generatedIntrospector(generatedIntrospector);
+		return this;
+	}
+
 	public GenerateOptionsBuilder objectIntrospector(
 		UnaryOperator<ArbitraryIntrospector> objectIntrospector
 	) {
@@ -495,6 +504,24 @@ public final class GenerateOptionsBuilder {
 		return this;
 	}
 
+	public GenerateOptionsBuilder maxRecursionDepth(int maxRecursionDepth) {
+		if (maxRecursionDepth < 0) {
+			throw new IllegalArgumentException(
+				"maxRecursionDepth should not be negative. maxRecursionDepth: " + maxRecursionDepth
+			);
+		}
+		this.maxRecursionDepth = maxRecursionDepth;
+		return this;
+	}
+
+	public GenerateOptionsBuilder maxNodeCount(int maxNodeCount) {
+		if (maxNodeCount < 1) {
+			throw new IllegalArgumentException("maxNodeCount should be positive. maxNodeCount: " + maxNodeCount);
+		}
+		this.maxNodeCount = maxNodeCount;
+		return this;
+	}
+
 	public GenerateOptions build() {
 		ObjectPropertyGenerator defaultObjectPropertyGenerator = defaultIfNull(
 			this.defaultObjectPropertyGenerator,
@@ -548,7 +575,9 @@ public final class GenerateOptionsBuilder {
 			defaultArbitraryContainerInfo,
 			this.arbitraryGenerators,
 			defaultArbitraryGenerator,
-			this.arbitraryCustomizers
+			this.arbitraryCustomizers,
+			this.maxRecursionDepth,
+			this.maxNodeCount
 		);
 	}
 
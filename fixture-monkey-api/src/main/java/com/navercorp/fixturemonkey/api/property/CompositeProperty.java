@@ -35,10 +35,12 @@ import org.apiguardian.api.API.Status;
 public final class CompositeProperty implements Property {
 	private final Property primaryProperty;
 	private final Property secondaryProperty;
+	private final int hashCode;
 
 	public CompositeProperty(Property primaryProperty, Property secondaryProperty) {
 		this.primaryProperty = primaryProperty;
 		this.secondaryProperty = secondaryProperty;
+		this.hashCode = Objects.hash(primaryProperty, secondaryProperty);
 	}
 
 	public Property getPrimaryProperty() {
@@ -103,13 +105,16 @@ public final class CompositeProperty implements Property {
 			return false;
 		}
 		CompositeProperty that = (CompositeProperty)obj;
+		if (hashCode != that.hashCode) {
+			return false;
+		}
 		return Objects.equals(primaryProperty, that.primaryProperty)
 			&& Objects.equals(secondaryProperty, that.secondaryProperty);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(primaryProperty, secondaryProperty);
+		return hashCode;
 	}
 
 	@Override
@@ -55,6 +55,8 @@ public final class ElementProperty implements Property {
 
 	private final Map<Class<? extends Annotation>, Annotation> annotationsMap;
 
+	private final int hashCode;
+
 	public ElementProperty(
 		Property containerProperty,
 		AnnotatedType elementType,
@@ -68,6 +70,7 @@ public final class ElementProperty implements Property {
 		this.annotations = Arrays.asList(this.elementType.getAnnotations());
 		this.annotationsMap = this.annotations.stream()
 			.collect(Collectors.toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
+		this.hashCode = Objects.hash(containerProperty, elementType, annotations);
 	}
 
 	@Override
@@ -150,6 +153,9 @@ public final class ElementProperty implements Property {
 			return false;
 		}
 		ElementProperty that = (ElementProperty)obj;
+		if (hashCode != that.hashCode) {
+			return false;
+		}
 		return containerProperty.equals(that.containerProperty)
 			&& elementType.equals(that.elementType)
 			&& annotations.equals(that.annotations);
@@ -157,7 +163,7 @@ public final class ElementProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(containerProperty, elementType, annotations);
+		return hashCode;
 	}
 
 	private boolean isOptional(Class<?> type) {
@@ -44,6 +44,7 @@ public final class FactoryMethodProperty implements Property {
 	private final Property fieldProperty;
 	private final List<Annotation> annotations;
 	private final Map<Class<? extends Annotation>, Annotation> annotationsMap;
+	private final int hashCode;
 
 	public FactoryMethodProperty(
 		AnnotatedType annotatedType,
@@ -58,6 +59,7 @@ public final class FactoryMethodProperty implements Property {
 		this.annotations = Arrays.asList(annotatedType.getAnnotations());
 		this.annotationsMap = this.annotations.stream()
 			.collect(Collectors.toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
+		this.hashCode = Objects.hash(this.annotatedType, factoryMethod, parameterName, fieldProperty, annotations);
 	}
 
 	@Override
@@ -104,6 +106,9 @@ public final class FactoryMethodProperty implements Property {
 			return false;
 		}
 		FactoryMethodProperty that = (FactoryMethodProperty)obj;
+		if (hashCode != that.hashCode) {
+			return false;
+		}
 		return annotatedType.equals(that.annotatedType)
 			&& factoryMethod.equals(that.factoryMethod)
 			&& parameterName.equals(that.parameterName)
@@ -113,7 +118,7 @@ public final class FactoryMethodProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(annotatedType, factoryMethod, parameterName, fieldProperty, annotations);
+		return hashCode;
 	}
 
 	@Nullable
@@ -43,6 +43,7 @@ public final class FieldProperty implements Property {
 	private final Field field;
 	private final List<Annotation> annotations;
 	private final Map<Class<? extends Annotation>, Annotation> annotationsMap;
+	private final int hashCode;
 
 	public FieldProperty(Field field) {
 		this(TypeCache.getAnnotatedType(field), field);
@@ -63,6 +64,7 @@ public final class FieldProperty implements Property {
 		this.annotations = Arrays.asList(field.getAnnotations());
 		this.annotationsMap = this.annotations.stream()
 			.collect(Collectors.toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
+		this.hashCode = Objects.hash(this.annotatedType.getType(), annotations);
 	}
 
 	public Field getField() {
@@ -104,6 +106,9 @@ public final class FieldProperty implements Property {
 			return false;
 		}
 		FieldProperty that = (FieldProperty)obj;
+		if (hashCode != that.hashCode) {
+			return false;
+		}
 
 		return annotatedType.getType().equals(that.annotatedType.getType())
 			&& annotations.equals(that.annotations);
@@ -111,7 +116,7 @@ public final class FieldProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(annotatedType.getType(), annotations);
+		return hashCode;
 	}
 
 	@Nullable
@@ -47,6 +47,8 @@ public final class MapEntryElementProperty implements Property {
 
 	private final AnnotatedType annotatedType = generateAnnotatedTypeWithoutAnnotation(type);
 
+	private final int hashCode;
+
 	public MapEntryElementProperty(
 		Property mapEntryProperty,
 		Property keyProperty,
@@ -55,6 +57,7 @@ public final class MapEntryElementProperty implements Property {
 		this.mapEntryProperty = mapEntryProperty;
 		this.keyProperty = keyProperty;
 		this.valueProperty = valueProperty;
+		this.hashCode = Objects.hash(mapEntryProperty, keyProperty, valueProperty);
 	}
 
 	public Property getMapEntryProperty() {
@@ -113,6 +116,9 @@ public final class MapEntryElementProperty implements Property {
 			return false;
 		}
 		MapEntryElementProperty that = (MapEntryElementProperty)obj;
+		if (hashCode != that.hashCode) {
+			return false;
+		}
 		return mapEntryProperty.equals(that.mapEntryProperty)
 			&& keyProperty.equals(that.keyProperty)
 			&& valueProperty.equals(that.valueProperty);
@@ -120,7 +126,7 @@ public final class MapEntryElementProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(mapEntryProperty, keyProperty, valueProperty);
+		return hashCode;
 	}
 
 	// This class only for type marking
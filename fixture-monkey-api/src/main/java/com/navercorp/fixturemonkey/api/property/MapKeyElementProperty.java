@@ -45,6 +45,8 @@ public final class MapKeyElementProperty implements Property {
 
 	private final List<Annotation> annotations;
 
+	private final int hashCode;
+
 	public MapKeyElementProperty(
 		Property mapProperty,
 		AnnotatedType keyType,
@@ -54,6 +56,7 @@ public final class MapKeyElementProperty implements Property {
 		this.keyType = keyType;
 		this.sequence = sequence;
 		this.annotations = Arrays.asList(this.keyType.getAnnotations());
+		this.hashCode = Objects.hash(mapProperty, keyType, annotations);
 	}
 
 	@Override
@@ -129,6 +132,9 @@ public final class MapKeyElementProperty implements Property {
 			return false;
 		}
 		MapKeyElementProperty that = (MapKeyElementProperty)obj;
+		if (hashCode != that.hashCode) {
+			return false;
+		}
 		return mapProperty.equals(that.mapProperty)
 			&& keyType.equals(that.keyType)
 			&& annotations.equals(that.annotations);
@@ -136,6 +142,6 @@ public final class MapKeyElementProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(mapProperty, keyType, annotations);
+		return hashCode;
 	}
 }
@@ -45,6 +45,8 @@ public final class MapValueElementProperty implements Property {
 
 	private final List<Annotation> annotations;
 
+	private final int hashCode;
+
 	public MapValueElementProperty(
 		Property mapProperty,
 		AnnotatedType valueType,
@@ -54,6 +56,7 @@ public final class MapValueElementProperty implements Property {
 		this.valueType = valueType;
 		this.sequence = sequence;
 		this.annotations = Arrays.asList(this.valueType.getAnnotations());
+		this.hashCode = Objects.hash(mapProperty, valueType, annotations);
 	}
 
 	@Override
@@ -124,6 +127,9 @@ public final class MapValueElementProperty implements Property {
 			return false;
 		}
 		MapValueElementProperty that = (MapValueElementProperty)obj;
+		if (hashCode != that.hashCode) {
+			return false;
+		}
 		return mapProperty.equals(that.mapProperty)
 			&& valueType.equals(that.valueType)
 			&& annotations.equals(that.annotations);
@@ -131,6 +137,6 @@ public final class MapValueElementProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(mapProperty, valueType, annotations);
+		return hashCode;
 	}
 }
@@ -0,0 +1,296 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.property;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+
+/**
+ * Creates accessors of fields, methods and constructors backed by {@link MethodHandle}s, they are cached per member.
+ * A handle is adapted to take and return {@link Object}s, so it is invoked exactly without reflective checks.
+ * An exception thrown by a member is rethrown as it is, not wrapped in an InvocationTargetException.
+ * It falls back to reflection if a member is not accessible by a handle.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class MemberAccessors {
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+	private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType BI_FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	private static final Map<Class<?>, Supplier<Object>> NO_ARGS_CONSTRUCTORS = new ConcurrentLruCache<>(2000);
+	private static final Map<Constructor<?>, Function<Object[], Object>> CONSTRUCTORS =
+		new ConcurrentLruCache<>(2000);
+	private static final Map<Field, Function<Object, Object>> FIELD_GETTERS = new ConcurrentLruCache<>(2000);
+	private static final Map<Field, BiConsumer<Object, Object>> FIELD_SETTERS = new ConcurrentLruCache<>(2000);
+	private static final Map<Method, Supplier<Object>> STATIC_INVOKERS = new ConcurrentLruCache<>(2000);
+	private static final Map<Method, Function<Object, Object>> NO_ARGS_INVOKERS = new ConcurrentLruCache<>(2000);
+	private static final Map<Method, BiFunction<Object, Object, Object>> SINGLE_ARG_INVOKERS =
+		new ConcurrentLruCache<>(2000);
+
+	private MemberAccessors() {
+	}
+
+	/**
+	 * Returns a supplier creating an instance of given type by its no-args constructor.
+	 * If it has no such constructor, the supplier fails when it is called.
+	 */
+	public static Supplier<Object> noArgsConstructor(Class<?> type) {
+		return NO_ARGS_CONSTRUCTORS.computeIfAbsent(type, t -> {
+			Constructor<?> constructor;
+			try {
+				constructor = t.getDeclaredConstructor();
+			} catch (NoSuchMethodException ex) {
+				return () -> ReflectionUtils.newInstance(t);
+			}
+
+			MethodHandle handle = unreflectConstructor(constructor);
+			if (handle == null) {
+				return () -> ReflectionUtils.newInstance(t);
+			}
+			MethodHandle supplier = handle.asType(SUPPLIER_TYPE);
+			return () -> {
+				try {
+					return (Object)supplier.invokeExact();
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		});
+	}
+
+	/**
+	 * Returns a function creating an instance by given constructor with arguments.
+	 */
+	public static Function<Object[], Object> constructor(Constructor<?> constructor) {
+		return CONSTRUCTORS.computeIfAbsent(constructor, c -> {
+			MethodHandle handle = unreflectConstructor(c);
+			if (handle == null) {
+				return arguments -> ReflectionUtils.newInstance(c, arguments);
+			}
+
+			MethodHandle spreader = handle.asType(handle.type().changeReturnType(Object.class))
+				.asSpreader(Object[].class, c.getParameterCount())
+				.asType(SPREAD_TYPE);
+			return arguments -> {
+				try {
+					return (Object)spreader.invokeExact(arguments);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		});
+	}
+
+	/**
+	 * Returns a getter of given field, a primitive field is got boxed.
+	 */
+	public static Function<Object, Object> fieldGetter(Field field) {
+		return FIELD_GETTERS.computeIfAbsent(field, f -> {
+			MethodHandle handle = null;
+			if (makeAccessible(f)) {
+				try {
+					handle = LOOKUP.unreflectGetter(f).asType(FUNCTION_TYPE);
+				} catch (IllegalAccessException ignored) {
+					// falls back to reflection
+				}
+			}
+
+			if (handle == null) {
+				return object -> {
+					try {
+						return f.get(object);
+					} catch (IllegalAccessException ex) {
+						throw ExceptionUtils.throwAsUncheckedException(ex);
+					}
+				};
+			}
+
+			MethodHandle getter = handle;
+			return object -> {
+				try {
+					return (Object)getter.invokeExact(object);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		});
+	}
+
+	/**
+	 * Returns a setter of given field, a primitive field is set by unboxing the value.
+	 */
+	public static BiConsumer<Object, Object> fieldSetter(Field field) {
+		return FIELD_SETTERS.computeIfAbsent(field, f -> {
+			MethodHandle handle = null;
+			if (!Modifier.isFinal(f.getModifiers()) && makeAccessible(f)) {
+				try {
+					handle = LOOKUP.unreflectSetter(f).asType(SETTER_TYPE);
+				} catch (IllegalAccessException ignored) {
+					// falls back to reflection
+				}
+			}
+
+			if (handle == null) {
+				return (object, value) -> {
+					try {
+						f.set(object, value);
+					} catch (IllegalAccessException ex) {
+						throw ExceptionUtils.throwAsUncheckedException(ex);
+					}
+				};
+			}
+
+			MethodHandle setter = handle;
+			return (object, value) -> {
+				try {
+					setter.invokeExact(object, value);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		});
+	}
+
+	/**
+	 * Returns an invoker of given static method without parameters.
+	 */
+	public static Supplier<Object> staticInvoker(Method method) {
+		return STATIC_INVOKERS.computeIfAbsent(method, m -> {
+			MethodHandle handle = unreflect(m, SUPPLIER_TYPE);
+			if (handle == null) {
+				return () -> ReflectionUtils.invokeMethod(m, null);
+			}
+			return () -> {
+				try {
+					return (Object)handle.invokeExact();
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		});
+	}
+
+	/**
+	 * Returns an invoker of given instance method without parameters, it takes the receiver.
+	 */
+	public static Function<Object, Object> noArgsInvoker(Method method) {
+		return NO_ARGS_INVOKERS.computeIfAbsent(method, m -> {
+			MethodHandle handle = unreflect(m, FUNCTION_TYPE);
+			if (handle == null) {
+				return receiver -> ReflectionUtils.invokeMethod(m, receiver);
+			}
+			return receiver -> {
+				try {
+					return (Object)handle.invokeExact(receiver);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		});
+	}
+
+	/**
+	 * Returns an invoker of given instance method with a parameter, it takes the receiver and the argument.
+	 * The invoker returns null if the method returns void.
+	 */
+	public static BiFunction<Object, Object, Object> singleArgInvoker(Method method) {
+		return SINGLE_ARG_INVOKERS.computeIfAbsent(method, m -> {
+			MethodHandle handle = unreflect(m, BI_FUNCTION_TYPE);
+			if (handle == null) {
+				return (receiver, argument) -> ReflectionUtils.invokeMethod(m, receiver, argument);
+			}
+			return (receiver, argument) -> {
+				try {
+					return (Object)handle.invokeExact(receiver, argument);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		});
+	}
+
+	public static void clearCache() {
+		NO_ARGS_CONSTRUCTORS.clear();
+		CONSTRUCTORS.clear();
+		FIELD_GETTERS.clear();
+		FIELD_SETTERS.clear();
+		STATIC_INVOKERS.clear();
+		NO_ARGS_INVOKERS.clear();
+		SINGLE_ARG_INVOKERS.clear();
+	}
+
+	@Nullable
+	private static MethodHandle unreflect(Method method, MethodType type) {
+		if (!makeAccessible(method)) {
+			return null;
+		}
+		try {
+			return LOOKUP.unreflect(method).asType(type);
+		} catch (IllegalAccessException | WrongMethodTypeException ex) {
+			return null;
+		}
+	}
+
+	@Nullable
+	private static MethodHandle unreflectConstructor(Constructor<?> constructor) {
+		if (!makeAccessible(constructor)) {
+			return null;
+		}
+		try {
+			return LOOKUP.unreflectConstructor(constructor);
+		} catch (IllegalAccessException ex) {
+			return null;
+		}
+	}
+
+	private static boolean makeAccessible(AccessibleObject accessibleObject) {
+		try {
+			accessibleObject.setAccessible(true);
+			return true;
+		} catch (RuntimeException ex) {
+			// not opened to fixture monkey by the module system
+			return false;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import java.beans.ConstructorProperties;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -49,7 +50,8 @@ import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.navercorp.fixturemonkey.api.collection.LruCache;
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.type.AnnotatedTypeKey;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -57,68 +59,26 @@ public final class PropertyCache {
 	private static final Logger LOGGER = LoggerFactory.getLogger(PropertyCache.class);
 
 	private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTY_DESCRIPTORS =
-		new LruCache<>(2000);
-	private static final Map<Class<?>, Map<String, Field>> FIELDS = new LruCache<>(2000);
+		new ConcurrentLruCache<>(2000);
+	private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentLruCache<>(2000);
 	private static final Map<Class<?>, Map.Entry<Constructor<?>, String[]>> PARAMETER_NAMES_BY_PRIMARY_CONSTRUCTOR =
-		new LruCache<>(2000);
+		new ConcurrentLruCache<>(2000);
 	private static final Map<Class<?>, Map<Method, Parameter[]>> PARAMETER_BY_FACTORY_METHOD =
-		new LruCache<>(2000);
+		new ConcurrentLruCache<>(2000);
 
-	public static List<Property> getProperties(AnnotatedType annotatedType) {
-		Map<String, List<Property>> propertiesMap = new HashMap<>();
-
-		Class<?> actualType = Types.getActualType(annotatedType.getType());
-
-		Map<String, Property> constructorProperties = getConstructorProperties(actualType);
-		for (Entry<String, Property> entry : constructorProperties.entrySet()) {
-			List<Property> properties = propertiesMap.computeIfAbsent(
-				entry.getKey(), name -> new ArrayList<>()
-			);
-			properties.add(entry.getValue());
-		}
-
-		Map<String, Field> fieldMap = getFields(actualType);
-		for (Entry<String, Field> entry : fieldMap.entrySet()) {
-			List<Property> properties = propertiesMap.computeIfAbsent(
-				entry.getKey(), name -> new ArrayList<>()
-			);
-			properties.add(
-				new FieldProperty(
-					Types.resolveWithTypeReferenceGenerics(annotatedType, entry.getValue()),
-					entry.getValue()
-				)
-			);
-		}
+	/**
+	 * Properties of a non-generic type only depend on its class, they are keyed by the class.
+	 * Properties of a generic type are keyed by its {@link AnnotatedTypeKey},
+	 * an {@link AnnotatedParameterizedType} itself is not equal to another one of the same type.
+	 */
+	private static final ConcurrentLruCache<Object, IndexedProperties> PROPERTIES = new ConcurrentLruCache<>(2000);
 
-		Map<String, PropertyDescriptor> propertyDescriptorMap = getPropertyDescriptors(actualType);
-		for (Entry<String, PropertyDescriptor> entry : propertyDescriptorMap.entrySet()) {
-			List<Property> properties = propertiesMap.computeIfAbsent(
-				entry.getValue().getName(), name -> new ArrayList<>()
-			);
-			properties.add(
-				new PropertyDescriptorProperty(
-					Types.resolveWithTypeReferenceGenerics(annotatedType, entry.getValue()),
-					entry.getValue()
-				)
-			);
-		}
-
-		List<Property> result = new ArrayList<>();
-		for (List<Property> properties : propertiesMap.values()) {
-			if (properties.size() == 1) {
-				result.add(properties.get(0));
-			} else {
-				result.add(new CompositeProperty(properties.get(0), properties.get(1)));
-			}
-		}
-
-		return Collections.unmodifiableList(result);
+	public static List<Property> getProperties(AnnotatedType annotatedType) {
+		return getIndexedProperties(annotatedType).properties;
 	}
 
 	public static Optional<Property> getProperty(AnnotatedType annotatedType, String name) {
-		return getProperties(annotatedType).stream()
-			.filter(it -> name.equals(it.getName()))
-			.findFirst();
+		return Optional.ofNullable(getIndexedProperties(annotatedType).propertiesByName.get(name));
 	}
 
 	public static Map<String, Field> getFields(Class<?> clazz) {
@@ -280,9 +240,80 @@ public final class PropertyCache {
 			});
 	}
 
+	public static long getPropertiesHitCount() {
+		return PROPERTIES.getHitCount();
+	}
+
+	public static long getPropertiesMissCount() {
+		return PROPERTIES.getMissCount();
+	}
+
+	public static long getPropertiesEvictionCount() {
+		return PROPERTIES.getEvictionCount();
+	}
+
 	public static void clearCache() {
 		PROPERTY_DESCRIPTORS.clear();
 		FIELDS.clear();
+		PROPERTIES.clear();
+	}
+
+	private static IndexedProperties getIndexedProperties(AnnotatedType annotatedType) {
+		Object key = annotatedType instanceof AnnotatedParameterizedType
+			? new AnnotatedTypeKey(annotatedType)
+			: Types.getActualType(annotatedType.getType());
+		return PROPERTIES.computeIfAbsent(key, it -> generateProperties(annotatedType));
+	}
+
+	private static IndexedProperties generateProperties(AnnotatedType annotatedType) {
+		Map<String, List<Property>> propertiesMap = new HashMap<>();
+
+		Class<?> actualType = Types.getActualType(annotatedType.getType());
+
+		Map<String, Property> constructorProperties = getConstructorProperties(actualType);
+		for (Entry<String, Property> entry : constructorProperties.entrySet()) {
+			List<Property> properties = propertiesMap.computeIfAbsent(
+				entry.getKey(), name -> new ArrayList<>()
+			);
+			properties.add(entry.getValue());
+		}
+
+		Map<String, Field> fieldMap = getFields(actualType);
+		for (Entry<String, Field> entry : fieldMap.entrySet()) {
+			List<Property> properties = propertiesMap.computeIfAbsent(
+				entry.getKey(), name -> new ArrayList<>()
+			);
+			properties.add(
+				new FieldProperty(
+					Types.resolveWithTypeReferenceGenerics(annotatedType, entry.getValue()),
+					entry.getValue()
+				)
+			);
+		}
+
+		Map<String, PropertyDescriptor> propertyDescriptorMap = getPropertyDescriptors(actualType);
+		for (Entry<String, PropertyDescriptor> entry : propertyDescriptorMap.entrySet()) {
+			List<Property> properties = propertiesMap.computeIfAbsent(
+				entry.getValue().getName(), name -> new ArrayList<>()
+			);
+			properties.add(
+				new PropertyDescriptorProperty(
+					Types.resolveWithTypeReferenceGenerics(annotatedType, entry.getValue()),
+					entry.getValue()
+				)
+			);
+		}
+
+		List<Property> result = new ArrayList<>();
+		for (List<Property> properties : propertiesMap.values()) {
+			if (properties.size() == 1) {
+				result.add(properties.get(0));
+			} else {
+				result.add(new CompositeProperty(properties.get(0), properties.get(1)));
+			}
+		}
+
+		return new IndexedProperties(result);
 	}
 
 	private static String[] getParameterNames(Constructor<?> constructor) {
@@ -299,4 +330,18 @@ public final class PropertyCache {
 			return constructorPropertiesAnnotation.value();
 		}
 	}
+
+	private static final class IndexedProperties {
+		private final List<Property> properties;
+		private final Map<String, Property> propertiesByName;
+
+		private IndexedProperties(List<Property> properties) {
+			this.properties = Collections.unmodifiableList(properties);
+			Map<String, Property> propertiesByName = new HashMap<>();
+			for (Property property : properties) {
+				propertiesByName.putIfAbsent(property.getName(), property);
+			}
+			this.propertiesByName = Collections.unmodifiableMap(propertiesByName);
+		}
+	}
 }
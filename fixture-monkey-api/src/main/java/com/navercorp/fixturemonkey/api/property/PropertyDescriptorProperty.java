@@ -45,6 +45,7 @@ public final class PropertyDescriptorProperty implements Property {
 	private final PropertyDescriptor propertyDescriptor;
 	private final List<Annotation> annotations;
 	private final Map<Class<? extends Annotation>, Annotation> annotationsMap;
+	private final int hashCode;
 
 	public PropertyDescriptorProperty(PropertyDescriptor propertyDescriptor) {
 		this(TypeCache.getAnnotatedType(propertyDescriptor), propertyDescriptor);
@@ -65,6 +66,7 @@ public final class PropertyDescriptorProperty implements Property {
 		this.annotations = Arrays.asList(propertyDescriptor.getReadMethod().getAnnotations());
 		this.annotationsMap = this.annotations.stream()
 			.collect(toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
+		this.hashCode = Objects.hash(this.annotatedType.getType(), annotations);
 	}
 
 	public PropertyDescriptor getPropertyDescriptor() {
@@ -119,13 +121,16 @@ public final class PropertyDescriptorProperty implements Property {
 			return false;
 		}
 		PropertyDescriptorProperty that = (PropertyDescriptorProperty)obj;
+		if (hashCode != that.hashCode) {
+			return false;
+		}
 		return annotatedType.getType().equals(that.annotatedType.getType())
 			&& annotations.equals(that.annotations);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(annotatedType.getType(), annotations);
+		return hashCode;
 	}
 
 	@Override
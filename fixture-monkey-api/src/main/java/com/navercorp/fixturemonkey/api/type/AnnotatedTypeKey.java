@@ -0,0 +1,81 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A key of an {@link AnnotatedType} comparing the types and the annotations of it and its type arguments.
+ * An annotated type does not implement equality, what is resolved by an annotated type only depends on them.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class AnnotatedTypeKey {
+	private final Type type;
+	private final List<Annotation> annotations;
+	private final List<AnnotatedTypeKey> typeArguments;
+
+	public AnnotatedTypeKey(AnnotatedType annotatedType) {
+		this.type = annotatedType.getType();
+		this.annotations = Arrays.asList(annotatedType.getAnnotations());
+
+		AnnotatedType[] annotatedTypeArguments;
+		if (annotatedType instanceof AnnotatedParameterizedType) {
+			annotatedTypeArguments = ((AnnotatedParameterizedType)annotatedType).getAnnotatedActualTypeArguments();
+		} else if (annotatedType instanceof AnnotatedArrayType) {
+			annotatedTypeArguments = new AnnotatedType[] {
+				((AnnotatedArrayType)annotatedType).getAnnotatedGenericComponentType()
+			};
+		} else {
+			annotatedTypeArguments = new AnnotatedType[0];
+		}
+		this.typeArguments = Arrays.stream(annotatedTypeArguments)
+			.map(AnnotatedTypeKey::new)
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		AnnotatedTypeKey that = (AnnotatedTypeKey)obj;
+		return type.equals(that.type)
+			&& annotations.equals(that.annotations)
+			&& typeArguments.equals(that.typeArguments);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, annotations, typeArguments);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.unique;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A seeded pseudo-random bijection over the indexes of a domain, a balanced Feistel network over the bits of
+ * the domain. Indexes out of a domain which is not a power of two are walked through the network again.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class FeistelPermutation {
+	private static final int ROUNDS = 4;
+
+	private final long size;
+	private final int halfBits;
+	private final long halfMask;
+	private final long[] roundKeys = new long[ROUNDS];
+
+	/**
+	 * @param size the number of indexes, {@code 0} means every index of the given bits
+	 * @param bits the bits of the indexes, the domain is walked by the even number of bits at least
+	 */
+	FeistelPermutation(long size, int bits, long seed) {
+		if (bits < 1 || bits > Long.SIZE) {
+			throw new IllegalArgumentException("bits should be between 1 and 64. bits: " + bits);
+		}
+		this.size = size;
+		this.halfBits = Math.max(1, (bits + 1) / 2);
+		this.halfMask = halfBits == Integer.SIZE ? 0xFFFFFFFFL : (1L << halfBits) - 1;
+		long key = seed;
+		for (int i = 0; i < ROUNDS; i++) {
+			key = mix(key + 0x9E3779B97F4A7C15L);
+			roundKeys[i] = key;
+		}
+	}
+
+	/**
+	 * Returns a permutation over the indexes from {@code 0} to {@code size - 1}.
+	 */
+	public static FeistelPermutation ofSize(long size, long seed) {
+		if (size < 1) {
+			throw new IllegalArgumentException("size should be positive. size: " + size);
+		}
+		return new FeistelPermutation(size, Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(size - 1)), seed);
+	}
+
+	/**
+	 * Returns a permutation over every index of the given bits, {@code 64} bits permute every long.
+	 */
+	public static FeistelPermutation ofBits(int bits, long seed) {
+		return new FeistelPermutation(bits == Long.SIZE ? 0 : 1L << bits, bits, seed);
+	}
+
+	/**
+	 * Returns the index the given index is mapped to, each index in the domain is mapped to a distinct one.
+	 */
+	public long permute(long index) {
+		long permuted = encrypt(index);
+		if (size != 0) {
+			while (Long.compareUnsigned(permuted, size) >= 0) {
+				permuted = encrypt(permuted);
+			}
+		}
+		return permuted;
+	}
+
+	private long encrypt(long index) {
+		long left = (index >>> halfBits) & halfMask;
+		long right = index & halfMask;
+		for (long roundKey : roundKeys) {
+			long next = left ^ (mix(right ^ roundKey) & halfMask);
+			left = right;
+			right = next;
+		}
+		return (left << halfBits) | right;
+	}
+
+	static long mix(long value) {
+		long mixed = value;
+		mixed ^= mixed >>> 33;
+		mixed *= 0xFF51AFD7ED558CCDL;
+		mixed ^= mixed >>> 33;
+		mixed *= 0xC4CEB9FE1A85EC53L;
+		mixed ^= mixed >>> 33;
+		return mixed;
+	}
+}
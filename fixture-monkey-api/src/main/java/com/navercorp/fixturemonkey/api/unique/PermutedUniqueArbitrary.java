@@ -0,0 +1,68 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.unique;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.EdgeCases;
+import net.jqwik.api.ExhaustiveGenerator;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.api.Shrinkable;
+
+/**
+ * Draws values unique by itself, the values need not be filtered by {@link FilteredMonkeyArbitrary}.
+ * The values are neither shrunk nor mixed with edge cases, an edge case would be drawn twice.
+ *
+ * @see UniqueDomain
+ */
+@SuppressWarnings("NullableProblems")
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class PermutedUniqueArbitrary<T> implements Arbitrary<T> {
+	private final Function<Random, T> nextUnique;
+
+	public PermutedUniqueArbitrary(Function<Random, T> nextUnique) {
+		this.nextUnique = nextUnique;
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		return random -> Shrinkable.unshrinkable(nextUnique.apply(random));
+	}
+
+	@Override
+	public RandomGenerator<T> generatorWithEmbeddedEdgeCases(int genSize) {
+		return generator(genSize);
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<T>> exhaustive(long maxNumberOfSamples) {
+		return Optional.empty();
+	}
+
+	@Override
+	public EdgeCases<T> edgeCases(int maxEdgeCases) {
+		return EdgeCases.none();
+	}
+}
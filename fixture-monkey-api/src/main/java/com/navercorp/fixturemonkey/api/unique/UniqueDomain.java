@@ -0,0 +1,151 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.unique;
+
+import java.util.UUID;
+import java.util.function.LongFunction;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A finite domain of values indexed by longs, each index maps to a distinct value.
+ * Unique values are drawn by walking a {@link FeistelPermutation} of the indexes, no drawn value is rejected.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class UniqueDomain<T> {
+	public static final int MAX_STRING_LENGTH = 10;
+
+	private static final char[] ALPHANUMERIC =
+		"0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+	private static final UniqueDomain<Byte> BYTES = ofBits(Byte.SIZE, index -> (byte)index);
+	private static final UniqueDomain<Short> SHORTS = ofBits(Short.SIZE, index -> (short)index);
+	private static final UniqueDomain<Integer> INTEGERS = ofBits(Integer.SIZE, index -> (int)index);
+	private static final UniqueDomain<Long> LONGS = ofBits(Long.SIZE, index -> index);
+	private static final UniqueDomain<UUID> UUIDS = ofBits(62, UniqueDomain::toUuid);
+	private static final UniqueDomain<String> STRINGS = ofSize(stringCount(), UniqueDomain::toAlphanumeric);
+
+	private final long size;
+	private final int bits;
+	private final LongFunction<T> valueOf;
+
+	private UniqueDomain(long size, int bits, LongFunction<T> valueOf) {
+		this.size = size;
+		this.bits = bits;
+		this.valueOf = valueOf;
+	}
+
+	public static <T> UniqueDomain<T> ofSize(long size, LongFunction<T> valueOf) {
+		if (size < 1) {
+			throw new IllegalArgumentException("size should be positive. size: " + size);
+		}
+		return new UniqueDomain<>(size, 0, valueOf);
+	}
+
+	public static <T> UniqueDomain<T> ofBits(int bits, LongFunction<T> valueOf) {
+		if (bits < 1 || bits > Long.SIZE) {
+			throw new IllegalArgumentException("bits should be between 1 and 64. bits: " + bits);
+		}
+		return new UniqueDomain<>(bits == Long.SIZE ? 0 : 1L << bits, bits, valueOf);
+	}
+
+	/**
+	 * Returns the domain of the given type, {@code null} if it is not supported.
+	 * Strings are alphanumeric ones not longer than {@link #MAX_STRING_LENGTH}.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public static <T> UniqueDomain<T> from(Class<T> type) {
+		if (type.isEnum()) {
+			T[] constants = type.getEnumConstants();
+			if (constants.length == 0) {
+				return null;
+			}
+			return ofSize(constants.length, index -> constants[(int)index]);
+		}
+
+		UniqueDomain<?> domain;
+		if (type == Byte.class) {
+			domain = BYTES;
+		} else if (type == Short.class) {
+			domain = SHORTS;
+		} else if (type == Integer.class) {
+			domain = INTEGERS;
+		} else if (type == Long.class) {
+			domain = LONGS;
+		} else if (type == UUID.class) {
+			domain = UUIDS;
+		} else if (type == String.class) {
+			domain = STRINGS;
+		} else {
+			domain = null;
+		}
+		return (UniqueDomain<T>)domain;
+	}
+
+	public FeistelPermutation permutation(long seed) {
+		return bits == 0 ? FeistelPermutation.ofSize(size, seed) : FeistelPermutation.ofBits(bits, seed);
+	}
+
+	/**
+	 * Returns whether every value is drawn after drawing the given number of values.
+	 */
+	public boolean isExhausted(long drawn) {
+		return size != 0 && Long.compareUnsigned(drawn, size) >= 0;
+	}
+
+	public T valueOf(long index) {
+		return valueOf.apply(index);
+	}
+
+	/**
+	 * Sets the version and variant bits of a random UUID, 62 bits of the index are left in the least ones.
+	 */
+	private static UUID toUuid(long index) {
+		long mostSigBits = (FeistelPermutation.mix(index) & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+		long leastSigBits = index | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	/**
+	 * Returns the string of the index in the bijective base-62 numeral system, index {@code 0} is empty.
+	 */
+	private static String toAlphanumeric(long index) {
+		StringBuilder builder = new StringBuilder();
+		long remaining = index;
+		while (remaining > 0) {
+			remaining--;
+			builder.append(ALPHANUMERIC[(int)(remaining % ALPHANUMERIC.length)]);
+			remaining /= ALPHANUMERIC.length;
+		}
+		return builder.toString();
+	}
+
+	private static long stringCount() {
+		long count = 0;
+		long countOfLength = 1;
+		for (int length = 0; length <= MAX_STRING_LENGTH; length++) {
+			count += countOfLength;
+			countOfLength *= ALPHANUMERIC.length;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+	@Test
+	void put() {
+		// given
+		BloomFilter sut = new BloomFilter(1000, 0.01);
+
+		// when
+		boolean first = sut.put("a".hashCode());
+		boolean second = sut.put("a".hashCode());
+
+		then(first).isTrue();
+		then(second).isFalse();
+		then(sut.mightContain("a".hashCode())).isTrue();
+	}
+
+	@Test
+	void falsePositiveRate() {
+		// given
+		BloomFilter sut = new BloomFilter(10_000, 0.01);
+		for (int value = 0; value < 10_000; value++) {
+			sut.put(value);
+		}
+
+		// when
+		int falsePositives = 0;
+		for (int value = 10_000; value < 20_000; value++) {
+			if (sut.mightContain(value)) {
+				falsePositives++;
+			}
+		}
+
+		then(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	void clear() {
+		// given
+		BloomFilter sut = new BloomFilter(1000, 0.01);
+		sut.put(1);
+
+		// when
+		sut.clear();
+
+		then(sut.mightContain(1)).isFalse();
+	}
+
+	@Test
+	void invalidFalsePositiveRate() {
+		thenThrownBy(() -> new BloomFilter(1000, 1.0))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLruCacheTest {
+
+	@Test
+	void evictLeastRecentlyUsed() {
+		// given
+		ConcurrentLruCache<String, Integer> sut = new ConcurrentLruCache<>(2, 1);
+		sut.put("a", 1);
+		sut.put("b", 2);
+		sut.get("a");
+
+		// when
+		sut.put("c", 3);
+
+		then(sut).containsOnlyKeys("a", "c");
+		then(sut.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void evictionListener() {
+		// given
+		List<String> evictedKeys = new ArrayList<>();
+		ConcurrentLruCache<String, Integer> sut = new ConcurrentLruCache<>(
+			2,
+			1,
+			(key, value) -> evictedKeys.add(key + "=" + value)
+		);
+		sut.put("a", 1);
+		sut.put("b", 2);
+
+		// when
+		sut.put("c", 3);
+
+		then(evictedKeys).containsExactly("a=1");
+	}
+
+	@Test
+	void countHitAndMiss() {
+		// given
+		ConcurrentLruCache<String, Integer> sut = new ConcurrentLruCache<>(10);
+
+		// when
+		sut.computeIfAbsent("a", String::length);
+		sut.computeIfAbsent("a", String::length);
+		sut.get("b");
+
+		then(sut.getHitCount()).isEqualTo(1);
+		then(sut.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	void computeIfAbsentInParallel() {
+		// given
+		ConcurrentLruCache<Integer, Integer> sut = new ConcurrentLruCache<>(100);
+
+		// when
+		IntStream.range(0, 10_000)
+			.parallel()
+			.forEach(it -> sut.computeIfAbsent(it % 1000, key -> key * 2));
+
+		then(sut.size()).isLessThanOrEqualTo(100);
+		then(sut.values()).allSatisfy(it -> then(it % 2).isZero());
+	}
+
+	@Test
+	void computeIfAbsentCallsMappingFunctionOnceForKey() {
+		// given
+		ConcurrentLruCache<Integer, Integer> sut = new ConcurrentLruCache<>(100);
+		AtomicInteger callCount = new AtomicInteger();
+
+		// when
+		IntStream.range(0, 10_000)
+			.parallel()
+			.forEach(it -> sut.computeIfAbsent(it % 10, key -> {
+				callCount.incrementAndGet();
+				return key;
+			}));
+
+		then(callCount.get()).isEqualTo(10);
+	}
+
+	@Test
+	void computeIfAbsentRecursivelyForSameKeyThrows() {
+		// given
+		ConcurrentLruCache<String, Integer> sut = new ConcurrentLruCache<>(10);
+
+		thenThrownBy(() -> sut.computeIfAbsent("a", key -> sut.computeIfAbsent(key, String::length)))
+			.isExactlyInstanceOf(IllegalStateException.class)
+			.hasMessage("Recursive update");
+		then(sut.computeIfAbsent("a", String::length)).isEqualTo(1);
+	}
+
+	@Test
+	void computeIfAbsentOfIteratorInParallel() {
+		// given
+		ConcurrentLruCache<Iterator<Integer>, List<Integer>> sut = new ConcurrentLruCache<>(100);
+		Iterator<Integer> iterator = Arrays.asList(1, 2, 3).iterator();
+
+		// when
+		List<List<Integer>> actual = new ArrayList<>();
+		IntStream.range(0, 100)
+			.parallel()
+			.mapToObj(it -> sut.computeIfAbsent(iterator, key -> {
+				List<Integer> list = new ArrayList<>();
+				key.forEachRemaining(list::add);
+				return list;
+			}))
+			.forEachOrdered(actual::add);
+
+		then(actual).allSatisfy(it -> then(it).containsExactly(1, 2, 3));
+	}
+}
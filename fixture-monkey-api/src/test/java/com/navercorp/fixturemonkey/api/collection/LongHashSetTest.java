@@ -0,0 +1,89 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.collection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+	@Test
+	void add() {
+		// given
+		LongHashSet sut = new LongHashSet();
+
+		// when
+		boolean first = sut.add(1L);
+		boolean second = sut.add(1L);
+
+		then(first).isTrue();
+		then(second).isFalse();
+		then(sut.size()).isEqualTo(1);
+	}
+
+	@Test
+	void addZero() {
+		// given
+		LongHashSet sut = new LongHashSet();
+
+		// when
+		boolean first = sut.add(0L);
+		boolean second = sut.add(0L);
+
+		then(first).isTrue();
+		then(second).isFalse();
+		then(sut.contains(0L)).isTrue();
+	}
+
+	@Test
+	void addGrows() {
+		// given
+		LongHashSet sut = new LongHashSet();
+
+		// when
+		for (long value = -1000; value < 1000; value++) {
+			sut.add(value);
+		}
+
+		then(sut.size()).isEqualTo(2000);
+		then(sut.capacity()).isGreaterThanOrEqualTo(4000);
+		Set<Long> values = new HashSet<>();
+		sut.forEach(values::add);
+		then(values).hasSize(2000).contains(-1000L, 0L, 999L);
+	}
+
+	@Test
+	void clearShrinks() {
+		// given
+		LongHashSet sut = new LongHashSet();
+		for (long value = 0; value < 1000; value++) {
+			sut.add(value);
+		}
+
+		// when
+		sut.clear();
+
+		then(sut.size()).isZero();
+		then(sut.contains(1L)).isFalse();
+		then(sut.capacity()).isEqualTo(new LongHashSet().capacity());
+	}
+}
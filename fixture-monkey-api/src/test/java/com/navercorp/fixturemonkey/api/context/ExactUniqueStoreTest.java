@@ -0,0 +1,113 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ExactUniqueStoreTest {
+	@Test
+	void addPrimitiveWrappers() {
+		// given
+		ExactUniqueStore sut = new ExactUniqueStore();
+
+		// when
+		boolean first = sut.add(1L);
+		boolean second = sut.add(1L);
+		boolean third = sut.add(2L);
+
+		then(first).isTrue();
+		then(second).isFalse();
+		then(third).isTrue();
+		then(sut.size()).isEqualTo(2);
+	}
+
+	@Test
+	void addDoubles() {
+		// given
+		ExactUniqueStore sut = new ExactUniqueStore();
+
+		// when
+		boolean positiveZero = sut.add(0.0d);
+		boolean negativeZero = sut.add(-0.0d);
+		boolean nan = sut.add(Double.NaN);
+		boolean otherNan = sut.add(Double.NaN);
+
+		then(positiveZero).isTrue();
+		then(negativeZero).isTrue();
+		then(nan).isTrue();
+		then(otherNan).isFalse();
+	}
+
+	@Test
+	void addStrings() {
+		// given
+		ExactUniqueStore sut = new ExactUniqueStore();
+
+		// when
+		boolean first = sut.add("a");
+		boolean second = sut.add(new String("a"));
+		boolean nullValue = sut.add(null);
+		boolean otherNullValue = sut.add(null);
+
+		then(first).isTrue();
+		then(second).isFalse();
+		then(nullValue).isTrue();
+		then(otherNullValue).isFalse();
+	}
+
+	@Test
+	void addOtherTypeFallsBack() {
+		// given
+		ExactUniqueStore sut = new ExactUniqueStore();
+		sut.add(1);
+
+		// when
+		boolean otherType = sut.add(1L);
+		boolean sameValue = sut.add(1);
+
+		then(otherType).isTrue();
+		then(sameValue).isFalse();
+		List<Object> values = new ArrayList<>();
+		sut.forEach(values::add);
+		then(values).containsExactlyInAnyOrder(1, 1L);
+	}
+
+	@Test
+	void clear() {
+		// given
+		ExactUniqueStore sut = new ExactUniqueStore();
+		sut.add(0);
+		long emptyBytes = sut.getEstimatedBytes();
+		for (int value = 1; value < 1000; value++) {
+			sut.add(value);
+		}
+
+		// when
+		sut.clear();
+
+		then(sut.size()).isZero();
+		then(sut.add(1)).isTrue();
+		then(sut.getEstimatedBytes()).isEqualTo(emptyBytes);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext.PropertyPath;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class MonkeyGeneratorContextTest {
+	private static final int VALUE_COUNT = 100;
+
+	@Test
+	void degradeStoreWhenStoresOfContextExceedCap() {
+		// given
+		long storeBytes = estimatedBytesOf(VALUE_COUNT);
+		UniqueStoreMetrics metrics = new UniqueStoreMetrics();
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(
+			new UniqueStoreOptions(ExactUniqueStore::new, storeBytes + storeBytes / 2, 0.01),
+			metrics
+		);
+		PropertyPath first = propertyPath(1);
+		PropertyPath second = propertyPath(2);
+
+		// when
+		for (int i = 0; i < VALUE_COUNT; i++) {
+			sut.isUniqueAndCheck(first, i);
+		}
+		for (int i = 0; i < VALUE_COUNT; i++) {
+			sut.isUniqueAndCheck(second, i);
+		}
+
+		then(metrics.getDegradedStoreCount()).isEqualTo(1);
+		then(metrics.getPeakEstimatedBytes()).isGreaterThan(storeBytes);
+	}
+
+	@Test
+	void evictUniqueReleasesBytes() {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(UniqueStoreOptions.DEFAULT, new UniqueStoreMetrics());
+		PropertyPath propertyPath = propertyPath(1);
+		for (int i = 0; i < VALUE_COUNT; i++) {
+			sut.isUniqueAndCheck(propertyPath, i);
+		}
+
+		// when
+		sut.evictUnique(propertyPath);
+
+		then(sut.getEstimatedBytes()).isZero();
+	}
+
+	@Test
+	void evictUniqueResetsDegradedStore() {
+		// given
+		UniqueStoreMetrics metrics = new UniqueStoreMetrics();
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(
+			new UniqueStoreOptions(ExactUniqueStore::new, 1, 0.01),
+			metrics
+		);
+		PropertyPath propertyPath = propertyPath(1);
+		sut.isUniqueAndCheck(propertyPath, 0);
+
+		// when
+		sut.evictUnique(propertyPath);
+		sut.isUniqueAndCheck(propertyPath, 0);
+
+		then(metrics.getDegradedStoreCount()).isEqualTo(2);
+	}
+
+	@Test
+	void clearDropsUniqueValuesOfEveryThread() throws InterruptedException {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(UniqueStoreOptions.DEFAULT, new UniqueStoreMetrics());
+		PropertyPath propertyPath = propertyPath(1);
+		sut.isUniqueAndCheck(propertyPath, 0);
+		Thread thread = new Thread(() -> sut.isUniqueAndCheck(propertyPath, 0));
+		thread.start();
+		thread.join();
+
+		// when
+		sut.clear();
+
+		then(sut.getEstimatedBytes()).isZero();
+		then(sut.isUniqueAndCheck(propertyPath, 0)).isTrue();
+	}
+
+	private static long estimatedBytesOf(int valueCount) {
+		ExactUniqueStore store = new ExactUniqueStore();
+		for (int i = 0; i < valueCount; i++) {
+			store.add(i);
+		}
+		return store.getEstimatedBytes();
+	}
+
+	private static PropertyPath propertyPath(int depth) {
+		return new PropertyPath(new RootProperty(new TypeReference<Integer>() {
+		}.getAnnotatedType()), null, depth);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class GenerationPhasesTest {
+
+	@Test
+	void measureNestedPhaseApart() {
+		// given
+		InMemoryGenerationRecorder recorder = new InMemoryGenerationRecorder();
+
+		// when
+		GenerationPhases.measure(recorder, Integer.class, GenerationPhase.INTROSPECT,
+			() -> GenerationPhases.measure(recorder, String.class, GenerationPhase.INTROSPECT, () -> {
+				sleep(100L);
+				return "nested";
+			})
+		);
+
+		long outerNanos = recorder.getPhaseRecord(Integer.class, GenerationPhase.INTROSPECT).getTotalNanos();
+		long nestedNanos = recorder.getPhaseRecord(String.class, GenerationPhase.INTROSPECT).getTotalNanos();
+		then(nestedNanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100L));
+		then(outerNanos).isLessThan(TimeUnit.MILLISECONDS.toNanos(100L));
+	}
+
+	@Test
+	void measureOtherPhaseInclusively() {
+		// given
+		InMemoryGenerationRecorder recorder = new InMemoryGenerationRecorder();
+
+		// when
+		GenerationPhases.measure(recorder, String.class, GenerationPhase.GENERATE,
+			() -> GenerationPhases.measure(recorder, String.class, GenerationPhase.INTROSPECT, () -> {
+				sleep(100L);
+				return "nested";
+			})
+		);
+
+		long generateNanos = recorder.getPhaseRecord(String.class, GenerationPhase.GENERATE).getTotalNanos();
+		then(generateNanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100L));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
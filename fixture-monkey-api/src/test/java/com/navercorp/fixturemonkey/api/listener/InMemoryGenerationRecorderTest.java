@@ -0,0 +1,93 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.listener.InMemoryGenerationRecorder.PhaseRecord;
+
+class InMemoryGenerationRecorderTest {
+
+	@Test
+	void recordPhase() {
+		// given
+		InMemoryGenerationRecorder sut = new InMemoryGenerationRecorder();
+
+		// when
+		sut.onPhase(String.class, GenerationPhase.SAMPLE, 1_000L, 100L);
+		sut.onPhase(String.class, GenerationPhase.SAMPLE, 3_000L, -1L);
+
+		PhaseRecord actual = sut.getPhaseRecord(String.class, GenerationPhase.SAMPLE);
+		then(actual.getCount()).isEqualTo(2);
+		then(actual.getTotalNanos()).isEqualTo(4_000L);
+		then(actual.getMaxNanos()).isEqualTo(3_000L);
+		then(actual.getAllocatedBytes()).isEqualTo(100L);
+		then(sut.getPhaseRecord(String.class, GenerationPhase.TRAVERSE).getCount()).isZero();
+	}
+
+	@Test
+	void percentileMicros() {
+		// given
+		InMemoryGenerationRecorder sut = new InMemoryGenerationRecorder();
+		for (int i = 0; i < 99; i++) {
+			sut.onPhase(String.class, GenerationPhase.SAMPLE, 1_000L, 0L);
+		}
+
+		// when
+		sut.onPhase(String.class, GenerationPhase.SAMPLE, 1_000_000L, 0L);
+
+		PhaseRecord actual = sut.getPhaseRecord(String.class, GenerationPhase.SAMPLE);
+		then(actual.getPercentileMicros(0.5d)).isEqualTo(1L);
+		then(actual.getPercentileMicros(1.0d)).isGreaterThanOrEqualTo(1_000L);
+	}
+
+	@Test
+	void clear() {
+		// given
+		InMemoryGenerationRecorder sut = new InMemoryGenerationRecorder();
+		sut.onPhase(String.class, GenerationPhase.SAMPLE, 1_000L, 0L);
+		sut.onFilterMiss(String.class);
+
+		// when
+		sut.clear();
+
+		then(sut.getPhaseRecord(String.class, GenerationPhase.SAMPLE).getCount()).isZero();
+		then(sut.getFilterMissCount(String.class)).isZero();
+	}
+
+	@Test
+	void measureWithoutListener() {
+		String actual = GenerationPhases.measure(null, String.class, GenerationPhase.SAMPLE, () -> "test");
+
+		then(actual).isEqualTo("test");
+	}
+
+	@Test
+	void measure() {
+		// given
+		InMemoryGenerationRecorder recorder = new InMemoryGenerationRecorder();
+
+		// when
+		GenerationPhases.measure(recorder, String.class, GenerationPhase.GENERATE, () -> "test");
+
+		then(recorder.getPhaseRecord(String.class, GenerationPhase.GENERATE).getCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class MatcherOperatorIndexTest {
+	@Test
+	void findFirstExactType() {
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(Arrays.asList(
+			MatcherOperator.exactTypeMatchOperator(String.class, "string"),
+			MatcherOperator.exactTypeMatchOperator(List.class, "list")
+		));
+
+		String actual = sut.findFirst(property(new TypeReference<List<String>>() {
+		}));
+
+		then(actual).isEqualTo("list");
+	}
+
+	@Test
+	void findFirstAssignableTypeInRegisteredOrder() {
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(Arrays.asList(
+			MatcherOperator.assignableTypeMatchOperator(Collection.class, "collection"),
+			MatcherOperator.exactTypeMatchOperator(ArrayList.class, "arrayList")
+		));
+
+		String actual = sut.findFirst(property(new TypeReference<ArrayList<String>>() {
+		}));
+
+		then(actual).isEqualTo("collection");
+	}
+
+	@Test
+	void findFirstCustomMatcherBeforeTypeMatcher() {
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(Arrays.asList(
+			new MatcherOperator<>(property -> property.getType() instanceof Class, "custom"),
+			MatcherOperator.exactTypeMatchOperator(String.class, "string")
+		));
+
+		String actualCustom = sut.findFirst(property(new TypeReference<String>() {
+		}));
+		String actualNotMatched = sut.findFirst(property(new TypeReference<List<String>>() {
+		}));
+
+		then(actualCustom).isEqualTo("custom");
+		then(actualNotMatched).isNull();
+	}
+
+	private static Property property(TypeReference<?> typeReference) {
+		return new RootProperty(typeReference.getAnnotatedType());
+	}
+}
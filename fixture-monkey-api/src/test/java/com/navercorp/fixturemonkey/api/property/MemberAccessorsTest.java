@@ -0,0 +1,139 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.property;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+class MemberAccessorsTest {
+	@Test
+	void noArgsConstructor() {
+		Object actual = MemberAccessors.noArgsConstructor(Sample.class).get();
+
+		then(actual).isExactlyInstanceOf(Sample.class);
+	}
+
+	@Test
+	void noArgsConstructorNotExists() {
+		thenThrownBy(() -> MemberAccessors.noArgsConstructor(Integer.class).get())
+			.isNotNull();
+	}
+
+	@Test
+	void constructor() throws NoSuchMethodException {
+		Constructor<?> constructor = Sample.class.getDeclaredConstructor(String.class, int.class);
+
+		Sample actual = (Sample)MemberAccessors.constructor(constructor).apply(new Object[] {"test", 1});
+
+		then(actual.name).isEqualTo("test");
+		then(actual.value).isEqualTo(1);
+	}
+
+	@Test
+	void constructorThrowsExceptionAsItIs() throws NoSuchMethodException {
+		Constructor<?> constructor = Sample.class.getDeclaredConstructor(String.class, int.class);
+
+		thenThrownBy(() -> MemberAccessors.constructor(constructor).apply(new Object[] {"test", -1}))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void fieldGetter() throws NoSuchFieldException {
+		Field field = Sample.class.getDeclaredField("value");
+		Sample sample = new Sample();
+		sample.value = 3;
+
+		Object actual = MemberAccessors.fieldGetter(field).apply(sample);
+
+		then(actual).isEqualTo(3);
+	}
+
+	@Test
+	void fieldSetter() throws NoSuchFieldException {
+		Field field = Sample.class.getDeclaredField("value");
+		Sample sample = new Sample();
+
+		MemberAccessors.fieldSetter(field).accept(sample, 3);
+
+		then(sample.value).isEqualTo(3);
+	}
+
+	@Test
+	void staticInvoker() throws NoSuchMethodException {
+		Method method = Sample.class.getDeclaredMethod("of");
+
+		Object actual = MemberAccessors.staticInvoker(method).get();
+
+		then(actual).isExactlyInstanceOf(Sample.class);
+	}
+
+	@Test
+	void noArgsInvoker() throws NoSuchMethodException {
+		Method method = Sample.class.getDeclaredMethod("getName");
+
+		Object actual = MemberAccessors.noArgsInvoker(method).apply(new Sample("test", 0));
+
+		then(actual).isEqualTo("test");
+	}
+
+	@Test
+	void singleArgInvokerReturnsNullIfVoid() throws NoSuchMethodException {
+		Method method = Sample.class.getDeclaredMethod("setName", String.class);
+		Sample sample = new Sample();
+
+		Object actual = MemberAccessors.singleArgInvoker(method).apply(sample, "test");
+
+		then(actual).isNull();
+		then(sample.name).isEqualTo("test");
+	}
+
+	private static class Sample {
+		private String name;
+		private int value;
+
+		private Sample() {
+		}
+
+		private Sample(String name, int value) {
+			if (value < 0) {
+				throw new IllegalArgumentException("value should not be negative.");
+			}
+			this.name = name;
+			this.value = value;
+		}
+
+		private static Sample of() {
+			return new Sample();
+		}
+
+		private String getName() {
+			return name;
+		}
+
+		private void setName(String name) {
+			this.name = name;
+		}
+	}
+}
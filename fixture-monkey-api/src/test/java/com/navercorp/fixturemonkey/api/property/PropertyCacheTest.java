@@ -142,6 +142,65 @@ class PropertyCacheTest {
 		then(actual).isNotPresent();
 	}
 
+	@Test
+	void getPropertiesCached() {
+		TypeReference<PropertyValue> typeReference = new TypeReference<PropertyValue>() {
+		};
+		List<Property> expected = PropertyCache.getProperties(typeReference.getAnnotatedType());
+		long hitCount = PropertyCache.getPropertiesHitCount();
+
+		List<Property> actual = PropertyCache.getProperties(new TypeReference<PropertyValue>() {
+		}.getAnnotatedType());
+
+		then(actual).isSameAs(expected);
+		then(PropertyCache.getPropertiesHitCount()).isEqualTo(hitCount + 1);
+	}
+
+	@Test
+	void getPropertiesGenericsCached() {
+		List<Property> expected = PropertyCache.getProperties(new TypeReference<GenericSample<String>>() {
+		}.getAnnotatedType());
+		long hitCount = PropertyCache.getPropertiesHitCount();
+
+		List<Property> actual = PropertyCache.getProperties(new TypeReference<GenericSample<String>>() {
+		}.getAnnotatedType());
+
+		then(actual).isSameAs(expected);
+		then(PropertyCache.getPropertiesHitCount()).isEqualTo(hitCount + 1);
+	}
+
+	@Test
+	void getPropertiesGenericsNotShared() {
+		List<Property> stringProperties = PropertyCache.getProperties(new TypeReference<GenericSample<String>>() {
+		}.getAnnotatedType());
+		List<Property> integerProperties = PropertyCache.getProperties(new TypeReference<GenericSample<Integer>>() {
+		}.getAnnotatedType());
+
+		Property stringName = stringProperties.stream()
+			.filter(it -> "name".equals(it.getName()))
+			.findFirst()
+			.get();
+		Property integerName = integerProperties.stream()
+			.filter(it -> "name".equals(it.getName()))
+			.findFirst()
+			.get();
+		then(stringName.getType()).isEqualTo(String.class);
+		then(integerName.getType()).isEqualTo(Integer.class);
+	}
+
+	@Test
+	void clearCache() {
+		TypeReference<PropertyValue> typeReference = new TypeReference<PropertyValue>() {
+		};
+		List<Property> expected = PropertyCache.getProperties(typeReference.getAnnotatedType());
+
+		PropertyCache.clearCache();
+
+		List<Property> actual = PropertyCache.getProperties(typeReference.getAnnotatedType());
+		then(actual).isNotSameAs(expected);
+		then(actual).isEqualTo(expected);
+	}
+
 	@Test
 	void getFields() {
 		Map<String, Field> actual = PropertyCache.getFields(PropertyValue.class);
@@ -0,0 +1,96 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.unique;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class FeistelPermutationTest {
+	@Test
+	void ofSizeIsBijection() {
+		// given
+		FeistelPermutation sut = FeistelPermutation.ofSize(1000, 42L);
+
+		// when
+		Set<Long> actual = new HashSet<>();
+		for (long index = 0; index < 1000; index++) {
+			actual.add(sut.permute(index));
+		}
+
+		then(actual).hasSize(1000);
+		then(actual).allMatch(it -> it >= 0 && it < 1000);
+	}
+
+	@Test
+	void ofSizeOne() {
+		// given
+		FeistelPermutation sut = FeistelPermutation.ofSize(1, 42L);
+
+		// when
+		long actual = sut.permute(0);
+
+		then(actual).isZero();
+	}
+
+	@Test
+	void ofBitsIsBijection() {
+		// given
+		FeistelPermutation sut = FeistelPermutation.ofBits(Short.SIZE, 42L);
+
+		// when
+		Set<Long> actual = new HashSet<>();
+		for (long index = 0; index < 1 << Short.SIZE; index++) {
+			actual.add(sut.permute(index));
+		}
+
+		then(actual).hasSize(1 << Short.SIZE);
+	}
+
+	@Test
+	void seedChangesPermutation() {
+		// given
+		FeistelPermutation sut = FeistelPermutation.ofBits(Long.SIZE, 1L);
+		FeistelPermutation other = FeistelPermutation.ofBits(Long.SIZE, 2L);
+
+		// when
+		long actual = sut.permute(0);
+
+		then(actual).isNotEqualTo(other.permute(0));
+	}
+
+	@Test
+	void uniqueDomainOfStrings() {
+		// given
+		UniqueDomain<String> sut = UniqueDomain.from(String.class);
+		FeistelPermutation permutation = sut.permutation(42L);
+
+		// when
+		Set<String> actual = new HashSet<>();
+		for (long index = 0; index < 10_000; index++) {
+			actual.add(sut.valueOf(permutation.permute(index)));
+		}
+
+		then(actual).hasSize(10_000);
+		then(actual).allMatch(it -> it.length() <= UniqueDomain.MAX_STRING_LENGTH);
+	}
+}
@@ -0,0 +1,383 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Generates a {@code GeneratedArbitraryIntrospector} for each class annotated with
+ * {@link GenerateArbitraryIntrospector} or listed in the option {@value #TYPES_OPTION},
+ * and registers them as services to be found by {@code ServiceLoaderArbitraryIntrospector}.
+ * A generated introspector is in the package of its class, it can set package-private properties.
+ */
+@SupportedAnnotationTypes("com.navercorp.fixturemonkey.codegen.GenerateArbitraryIntrospector")
+@SupportedOptions(ArbitraryIntrospectorProcessor.TYPES_OPTION)
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class ArbitraryIntrospectorProcessor extends AbstractProcessor {
+	/**
+	 * The fully qualified names of the classes to generate introspectors for, separated by commas.
+	 */
+	public static final String TYPES_OPTION = "fixturemonkey.codegen.types";
+
+	private static final String SERVICE_FILE =
+		"META-INF/services/com.navercorp.fixturemonkey.api.introspector.GeneratedArbitraryIntrospector";
+	private static final String INTROSPECTOR_SUFFIX = "_ArbitraryIntrospector";
+
+	private final Set<String> generatedIntrospectorNames = new TreeSet<>();
+	private boolean optionTypesProcessed = false;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeServiceFile();
+			return false;
+		}
+
+		Set<TypeElement> types = new LinkedHashSet<>();
+		for (Element element : roundEnv.getElementsAnnotatedWith(GenerateArbitraryIntrospector.class)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				error(element, "@GenerateArbitraryIntrospector is only applicable to a class.");
+				continue;
+			}
+			types.add((TypeElement)element);
+		}
+		if (!optionTypesProcessed) {
+			optionTypesProcessed = true;
+			types.addAll(getOptionTypes());
+		}
+
+		for (TypeElement type : types) {
+			generateIntrospector(type);
+		}
+		return false;
+	}
+
+	private Set<TypeElement> getOptionTypes() {
+		Set<TypeElement> types = new LinkedHashSet<>();
+		String option = processingEnv.getOptions().get(TYPES_OPTION);
+		if (option == null) {
+			return types;
+		}
+
+		for (String typeName : option.split(",")) {
+			if (typeName.trim().isEmpty()) {
+				continue;
+			}
+
+			TypeElement type = processingEnv.getElementUtils().getTypeElement(typeName.trim());
+			if (type == null) {
+				processingEnv.getMessager().printMessage(
+					Kind.ERROR,
+					"Type listed in " + TYPES_OPTION + " is not found. type: " + typeName.trim()
+				);
+				continue;
+			}
+			types.add(type);
+		}
+		return types;
+	}
+
+	private void generateIntrospector(TypeElement type) {
+		if (!isConstructable(type)) {
+			return;
+		}
+
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String introspectorSimpleName = getFlatName(type) + INTROSPECTOR_SUFFIX;
+		String introspectorName = packageName.isEmpty()
+			? introspectorSimpleName
+			: packageName + "." + introspectorSimpleName;
+		if (generatedIntrospectorNames.contains(introspectorName)) {
+			return;
+		}
+
+		Map<String, String> assignmentsByPropertyName = getAssignments(type, packageElement);
+		String source = generateSource(type, packageName, introspectorSimpleName, assignmentsByPropertyName);
+		try {
+			JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(introspectorName, type);
+			try (Writer writer = sourceFile.openWriter()) {
+				writer.write(source);
+			}
+		} catch (IOException ex) {
+			error(type, "Failed to write an introspector. " + ex.getMessage());
+			return;
+		}
+		generatedIntrospectorNames.add(introspectorName);
+	}
+
+	private boolean isConstructable(TypeElement type) {
+		if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+			error(type, "An introspector could not be generated for an abstract class.");
+			return false;
+		}
+		if (!type.getTypeParameters().isEmpty()) {
+			error(type, "An introspector could not be generated for a generic class.");
+			return false;
+		}
+		for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+			TypeElement typeElement = (TypeElement)element;
+			if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+				error(type, "An introspector could not be generated for a private class.");
+				return false;
+			}
+			if (typeElement.getNestingKind() == NestingKind.MEMBER
+				&& !typeElement.getModifiers().contains(Modifier.STATIC)) {
+				error(type, "An introspector could not be generated for an inner class.");
+				return false;
+			}
+			if (typeElement.getNestingKind() == NestingKind.LOCAL
+				|| typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+				error(type, "An introspector could not be generated for a local class.");
+				return false;
+			}
+		}
+
+		boolean hasNoArgsConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+			.anyMatch(it -> it.getParameters().isEmpty() && !it.getModifiers().contains(Modifier.PRIVATE));
+		if (!hasNoArgsConstructor) {
+			error(type, "An introspector could not be generated for a class without a non-private constructor "
+				+ "without arguments.");
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the statements setting each property, a setter of a property is preferred to its field.
+	 */
+	private Map<String, String> getAssignments(TypeElement type, PackageElement packageElement) {
+		DeclaredType declaredType = (DeclaredType)type.asType();
+		Map<String, String> assignmentsByPropertyName = new LinkedHashMap<>();
+
+		for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+			for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+				String methodName = method.getSimpleName().toString();
+				if (!methodName.startsWith("set") || methodName.length() == 3 || method.getParameters().size() != 1
+					|| method.getModifiers().contains(Modifier.STATIC) || !isAccessible(method, packageElement)) {
+					continue;
+				}
+
+				ExecutableType methodType =
+					(ExecutableType)processingEnv.getTypeUtils().asMemberOf(declaredType, method);
+				String castType = getCastType(methodType.getParameterTypes().get(0));
+				assignmentsByPropertyName.putIfAbsent(
+					decapitalize(methodName.substring(3)),
+					"object." + methodName + "((" + castType + ")value);"
+				);
+			}
+		}
+
+		for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+			for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+				Set<Modifier> modifiers = field.getModifiers();
+				if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)
+					|| !isAccessible(field, packageElement)) {
+					continue;
+				}
+
+				String fieldName = field.getSimpleName().toString();
+				TypeMirror fieldType = processingEnv.getTypeUtils().asMemberOf(declaredType, field);
+				assignmentsByPropertyName.putIfAbsent(
+					fieldName,
+					"object." + fieldName + " = (" + getCastType(fieldType) + ")value;"
+				);
+			}
+		}
+		return assignmentsByPropertyName;
+	}
+
+	private String generateSource(
+		TypeElement type,
+		String packageName,
+		String introspectorSimpleName,
+		Map<String, String> assignmentsByPropertyName
+	) {
+		String typeName = type.getQualifiedName().toString();
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("import java.util.Map;\n\n")
+			.append("import net.jqwik.api.Arbitrary;\n")
+			.append("import net.jqwik.api.Builders;\n")
+			.append("import net.jqwik.api.Builders.BuilderCombinator;\n\n")
+			.append("import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;\n")
+			.append("import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;\n")
+			.append("import com.navercorp.fixturemonkey.api.introspector.GeneratedArbitraryIntrospector;\n\n")
+			.append("/**\n")
+			.append(" * Generated by ").append(ArbitraryIntrospectorProcessor.class.getName())
+			.append(" for {@link ").append(typeName).append("}.\n")
+			.append(" */\n")
+			.append("public final class ").append(introspectorSimpleName)
+			.append(" implements GeneratedArbitraryIntrospector {\n")
+			.append("\t@Override\n")
+			.append("\tpublic Class<?> getTargetType() {\n")
+			.append("\t\treturn ").append(typeName).append(".class;\n")
+			.append("\t}\n\n")
+			.append("\t@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+			.append("\t@Override\n")
+			.append("\tpublic ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {\n")
+			.append("\t\tMap<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()\n")
+			.append("\t\t\t.getArbitrariesByPropertyName();\n")
+			.append("\t\tBuilderCombinator<").append(typeName).append("> builderCombinator =\n")
+			.append("\t\t\tBuilders.withBuilder(").append(typeName).append("::new);\n");
+
+		int index = 0;
+		for (Map.Entry<String, String> entry : assignmentsByPropertyName.entrySet()) {
+			String arbitraryName = "arbitrary" + index++;
+			source.append("\n")
+				.append("\t\tArbitrary<?> ").append(arbitraryName)
+				.append(" = childrenArbitraries.get(\"").append(entry.getKey()).append("\");\n")
+				.append("\t\tif (").append(arbitraryName).append(" != null) {\n")
+				.append("\t\t\tbuilderCombinator = builderCombinator.use(").append(arbitraryName)
+				.append(").in((object, value) -> {\n")
+				.append("\t\t\t\tif (value != null) {\n")
+				.append("\t\t\t\t\t").append(entry.getValue()).append("\n")
+				.append("\t\t\t\t}\n")
+				.append("\t\t\t\treturn object;\n")
+				.append("\t\t\t});\n")
+				.append("\t\t}\n");
+		}
+
+		source.append("\n")
+			.append("\t\treturn new ArbitraryIntrospectorResult(builderCombinator.build());\n")
+			.append("\t}\n")
+			.append("}\n");
+		return source.toString();
+	}
+
+	private void writeServiceFile() {
+		if (generatedIntrospectorNames.isEmpty()) {
+			return;
+		}
+
+		try {
+			FileObject serviceFile = processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+			try (Writer writer = serviceFile.openWriter()) {
+				for (String introspectorName : generatedIntrospectorNames) {
+					writer.write(introspectorName);
+					writer.write("\n");
+				}
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(
+				Kind.ERROR,
+				"Failed to write " + SERVICE_FILE + ". " + ex.getMessage()
+			);
+		}
+	}
+
+	private TypeElement getSuperclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+
+		TypeElement superType = (TypeElement)((DeclaredType)superclass).asElement();
+		if (superType.getQualifiedName().contentEquals(Object.class.getName())) {
+			return null;
+		}
+		return superType;
+	}
+
+	/**
+	 * A member is accessible by the generated introspector in the package of the class if it is not private,
+	 * a member which is not public should be declared in the same package.
+	 */
+	private boolean isAccessible(Element member, PackageElement packageElement) {
+		Set<Modifier> modifiers = member.getModifiers();
+		if (modifiers.contains(Modifier.PRIVATE)) {
+			return false;
+		}
+		if (modifiers.contains(Modifier.PUBLIC)) {
+			return true;
+		}
+		return processingEnv.getElementUtils().getPackageOf(member).equals(packageElement);
+	}
+
+	private String getCastType(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType)type).getQualifiedName().toString();
+		}
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private static String getFlatName(TypeElement type) {
+		StringBuilder name = new StringBuilder(type.getSimpleName());
+		for (Element element = type.getEnclosingElement(); element instanceof TypeElement;
+			element = element.getEnclosingElement()) {
+			name.insert(0, ((TypeElement)element).getSimpleName() + "_");
+		}
+		return name.toString();
+	}
+
+	/**
+	 * Same as {@code java.beans.Introspector#decapitalize}, it is not available for every annotation processor.
+	 */
+	private static String decapitalize(String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+		return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Property;
+
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
+import com.navercorp.fixturemonkey.api.introspector.ServiceLoaderArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.codegen.GenerateArbitraryIntrospector;
+
+class FixtureMonkeyV04CodegenTest {
+	private static final LabMonkey SUT = LabMonkey.labMonkeyBuilder()
+		.defaultNotNull(true)
+		.useGeneratedIntrospectors(true)
+		.build();
+
+	@Property
+	void generatedIntrospectorSetsPackagePrivateSetter() {
+		SetterSpec actual = SUT.giveMeOne(SetterSpec.class);
+
+		then(actual.name).isNotNull();
+		then(actual.values).isNotNull();
+		then(actual.setterCalled).isTrue();
+	}
+
+	@Property
+	void generatedIntrospectorSetsField() {
+		FieldSpec actual = SUT.giveMeBuilder(FieldSpec.class)
+			.set("name", "test")
+			.set("count", 1)
+			.sample();
+
+		then(actual.name).isEqualTo("test");
+		then(actual.count).isEqualTo(1);
+	}
+
+	@Property
+	void generatedIntrospectorSetsInheritedSetter() {
+		ChildSpec actual = SUT.giveMeBuilder(ChildSpec.class)
+			.set("name", "test")
+			.sample();
+
+		then(actual.getName()).isEqualTo("test");
+		then(actual.child).isNotNull();
+	}
+
+	@Property
+	void generatedIntrospectorIsLoaded() {
+		ServiceLoaderArbitraryIntrospector introspector = new ServiceLoaderArbitraryIntrospector();
+
+		RootProperty property = new RootProperty(new TypeReference<SetterSpec>() {
+		}.getAnnotatedType());
+
+		then(introspector.match(property)).isTrue();
+	}
+
+	@Property
+	void notUseGeneratedIntrospectorsByDefault() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.defaultNotNull(true)
+			.build();
+
+		SetterSpec actual = sut.giveMeOne(SetterSpec.class);
+
+		then(actual.name).isNull();
+		then(actual.setterCalled).isFalse();
+	}
+
+	@Property
+	void objectIntrospectorPrecedesGeneratedIntrospectorByDefault() {
+		SetterSpec expected = new SetterSpec();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.objectIntrospector(context -> new ArbitraryIntrospectorResult(Arbitraries.just(expected)))
+			.build();
+
+		SetterSpec actual = sut.giveMeOne(SetterSpec.class);
+
+		then(actual).isSameAs(expected);
+	}
+
+	@GenerateArbitraryIntrospector
+	public static class SetterSpec {
+		private String name;
+		private List<String> values;
+		private boolean setterCalled;
+
+		public String getName() {
+			return name;
+		}
+
+		public List<String> getValues() {
+			return values;
+		}
+
+		public boolean isSetterCalled() {
+			return setterCalled;
+		}
+
+		void setName(String name) {
+			this.name = name;
+			this.setterCalled = true;
+		}
+
+		void setValues(List<String> values) {
+			this.values = values;
+		}
+	}
+
+	@GenerateArbitraryIntrospector
+	public static class FieldSpec {
+		String name;
+		int count;
+	}
+
+	public static class ParentSpec {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@GenerateArbitraryIntrospector
+	public static class ChildSpec extends ParentSpec {
+		String child;
+	}
+}
@@ -18,13 +18,18 @@
 
 package com.navercorp.fixturemonkey.jackson.introspector;
 
+import java.io.IOException;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -35,8 +40,15 @@ import net.jqwik.api.Builders;
 import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
@@ -45,16 +57,29 @@ import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
 
+/**
+ * Generates an object by deserializing the generated values of its properties.
+ * The values are written once to a token buffer, a nested object of the exact type of its property is embedded
+ * as it is instead of being serialized again. A value which could not be read this way is converted by
+ * {@link ObjectMapper#convertValue(Object, Class)} instead, a type which could not be read by its definition
+ * is converted from then on.
+ */
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class JacksonArbitraryIntrospector implements ArbitraryIntrospector {
 	public static final JacksonArbitraryIntrospector INSTANCE = new JacksonArbitraryIntrospector(
 		FixtureMonkeyJackson.defaultObjectMapper()
 	);
+	private static final Map<String, DateTimeFormatter> DATE_TIME_FORMATTERS = new ConcurrentLruCache<>(256);
 
 	private final ObjectMapper objectMapper;
+	private final ObjectWriter objectWriter;
+	private final Map<Class<?>, ObjectReader> objectReaders = new ConcurrentLruCache<>(2000);
+	private final Set<Class<?>> convertedTypes = ConcurrentHashMap.newKeySet();
+	private final LongAdder convertedCount = new LongAdder();
 
 	public JacksonArbitraryIntrospector(ObjectMapper objectMapper) {
 		this.objectMapper = objectMapper;
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE);
 	}
 
 	@Override
@@ -66,40 +91,102 @@ public final class JacksonArbitraryIntrospector implements ArbitraryIntrospector
 		Map<String, Arbitrary<?>> childrenArbitraries = context.getChildrenArbitraryContexts()
 			.getArbitrariesByResolvedName();
 
-		BuilderCombinator<Map<String, Object>> builderCombinator = Builders.withBuilder(() -> initializeMap(property));
+		BuilderCombinator<List<JsonValue>> builderCombinator =
+			Builders.withBuilder(() -> new ArrayList<>(childrenProperties.size()));
 
 		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
 			String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
+			Property childProperty = arbitraryProperty.getObjectProperty().getProperty();
+			Class<?> childType = Types.getActualType(childProperty.getType());
+			JsonFormat jsonFormat = childProperty.getAnnotation(JsonFormat.class).orElse(null);
 			Arbitrary<?> propertyArbitrary = childrenArbitraries.getOrDefault(
 				resolvePropertyName,
 				Arbitraries.just(null)
 			);
-			builderCombinator = builderCombinator.use(propertyArbitrary).in((map, value) -> {
+			builderCombinator = builderCombinator.use(propertyArbitrary).in((values, value) -> {
 				if (value != null) {
-					Object jsonFormatted = arbitraryProperty.getObjectProperty()
-						.getProperty()
-						.getAnnotation(JsonFormat.class)
-						.map(it -> format(value, it))
-						.orElse(value);
-
-					map.put(resolvePropertyName, jsonFormatted);
+					Object jsonFormatted = jsonFormat != null ? format(value, jsonFormat) : value;
+					boolean embeddable = isEmbeddable(jsonFormatted, childType);
+					values.add(new JsonValue(resolvePropertyName, jsonFormatted, embeddable));
 				}
-				return map;
+				return values;
 			});
 		}
 
 		return new ArbitraryIntrospectorResult(
-			builderCombinator.build(map -> objectMapper.convertValue(map, type))
+			builderCombinator.build(values -> deserialize(values, type))
+		);
+	}
+
+	private Object deserialize(List<JsonValue> values, Class<?> type) {
+		if (!convertedTypes.contains(type)) {
+			try {
+				return read(values, type);
+			} catch (InvalidDefinitionException ex) {
+				convertedTypes.add(type);
+			} catch (IOException | IllegalArgumentException ex) {
+				// converts only this value, the failure may depend on the value
+			}
+		}
+
+		convertedCount.increment();
+		Map<String, Object> map = new HashMap<>();
+		for (JsonValue value : values) {
+			map.put(value.name, value.value);
+		}
+		return objectMapper.convertValue(map, type);
+	}
+
+	boolean isConverted(Class<?> type) {
+		return convertedTypes.contains(type);
+	}
+
+	long getConvertedCount() {
+		return convertedCount.sum();
+	}
+
+	private Object read(List<JsonValue> values, Class<?> type) throws IOException {
+		TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+		if (objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+			buffer = buffer.forceUseOfBigDecimal(true);
+		}
+
+		buffer.writeStartObject();
+		for (JsonValue value : values) {
+			buffer.writeFieldName(value.name);
+			if (value.embeddable) {
+				buffer.writeEmbeddedObject(value.value);
+			} else {
+				objectWriter.writeValue(buffer, value.value);
+			}
+		}
+		buffer.writeEndObject();
+
+		ObjectReader objectReader = objectReaders.computeIfAbsent(
+			type,
+			it -> objectMapper.readerFor(it).without(DeserializationFeature.UNWRAP_ROOT_VALUE)
 		);
+		return objectReader.readValue(buffer.asParser());
 	}
 
-	private Map<String, Object> initializeMap(Property property) {
-		return new HashMap<>();
+	/**
+	 * An object generated for a property of its exact type does not need a round trip,
+	 * a JDK type or a polymorphic property is serialized.
+	 */
+	private static boolean isEmbeddable(Object value, Class<?> propertyType) {
+		Class<?> valueType = value.getClass();
+		if (valueType != propertyType || valueType.isEnum() || valueType.isArray()) {
+			return false;
+		}
+		String name = valueType.getName();
+		return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("kotlin.");
 	}
 
 	private Object format(Object object, JsonFormat jsonFormat) {
-		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern())
-			.withZone(ZoneId.systemDefault());
+		DateTimeFormatter dateTimeFormatter = DATE_TIME_FORMATTERS.computeIfAbsent(
+			jsonFormat.pattern(),
+			pattern -> DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.systemDefault())
+		);
 
 		if (object instanceof TemporalAccessor) {
 			TemporalAccessor temporalAccessor = (TemporalAccessor)object;
@@ -115,4 +202,16 @@ public final class JacksonArbitraryIntrospector implements ArbitraryIntrospector
 			return object;
 		}
 	}
+
+	private static final class JsonValue {
+		private final String name;
+		private final Object value;
+		private final boolean embeddable;
+
+		private JsonValue(String name, Object value, boolean embeddable) {
+			this.name = name;
+			this.value = value;
+			this.embeddable = embeddable;
+		}
+	}
 }
@@ -0,0 +1,91 @@
+package com.navercorp.fixturemonkey.jackson.introspector;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import lombok.Value;
+
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
+
+class JacksonArbitraryIntrospectorTest {
+	@Test
+	void nestedObjectIsRead() {
+		// given
+		JacksonArbitraryIntrospector sut = new JacksonArbitraryIntrospector(FixtureMonkeyJackson.defaultObjectMapper());
+		LabMonkey labMonkey = LabMonkey.labMonkeyBuilder()
+			.objectIntrospector(sut)
+			.build();
+
+		// when
+		NestedJsonSpec actual = labMonkey.giveMeBuilder(NestedJsonSpec.class)
+			.set("child.name", "test")
+			.size("children", 2)
+			.sample();
+
+		then(actual.child.name).isEqualTo("test");
+		then(actual.children).hasSize(2);
+		then(sut.getConvertedCount()).isZero();
+		then(sut.isConverted(NestedJsonSpec.class)).isFalse();
+		then(sut.isConverted(ChildJsonSpec.class)).isFalse();
+	}
+
+	@Test
+	void typeOfValueNotReadIsNotConverted() {
+		// given
+		JacksonArbitraryIntrospector sut = new JacksonArbitraryIntrospector(FixtureMonkeyJackson.defaultObjectMapper());
+		LabMonkey labMonkey = LabMonkey.labMonkeyBuilder()
+			.objectIntrospector(sut)
+			.build();
+		thenThrownBy(() -> labMonkey.giveMeBuilder(RejectingJsonSpec.class)
+			.set("name", RejectingJsonSpec.REJECTED_NAME)
+			.sample()
+		).isNotNull();
+		long convertedCount = sut.getConvertedCount();
+
+		// when
+		RejectingJsonSpec actual = labMonkey.giveMeBuilder(RejectingJsonSpec.class)
+			.set("name", "test")
+			.sample();
+
+		then(actual.getName()).isEqualTo("test");
+		then(convertedCount).isPositive();
+		then(sut.getConvertedCount()).isEqualTo(convertedCount);
+		then(sut.isConverted(RejectingJsonSpec.class)).isFalse();
+	}
+
+	@Value
+	public static class NestedJsonSpec {
+		ChildJsonSpec child;
+
+		List<ChildJsonSpec> children;
+	}
+
+	@Value
+	public static class ChildJsonSpec {
+		String name;
+	}
+
+	@Getter
+	public static class RejectingJsonSpec {
+		static final String REJECTED_NAME = "rejected";
+
+		private final String name;
+
+		@JsonCreator
+		public RejectingJsonSpec(@JsonProperty("name") String name) {
+			if (REJECTED_NAME.equals(name)) {
+				throw new IllegalArgumentException("Rejected name: " + name);
+			}
+			this.name = name;
+		}
+	}
+}
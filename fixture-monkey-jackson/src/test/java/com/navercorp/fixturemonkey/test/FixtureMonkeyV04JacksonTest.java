@@ -10,6 +10,7 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.List;
 
 import net.jqwik.api.Property;
 
@@ -40,6 +41,17 @@ class FixtureMonkeyV04JacksonTest {
 		then(actual.value).isNotNull();
 	}
 
+	@Property
+	void nestedObject() {
+		NestedJsonSpec actual = SUT.giveMeBuilder(NestedJsonSpec.class)
+			.set("child.name", "test")
+			.size("children", 2)
+			.sample();
+
+		then(actual.child.name).isEqualTo("test");
+		then(actual.children).hasSize(2);
+	}
+
 	@Value
 	public static class JsonFormatSpec {
 		@JsonFormat(shape = Shape.NUMBER)
@@ -75,4 +87,19 @@ class FixtureMonkeyV04JacksonTest {
 	public static class JsonNodeWrapperClass {
 		JsonNode value;
 	}
+
+	@Value
+	public static class NestedJsonSpec {
+		ChildJsonSpec child;
+
+		List<ChildJsonSpec> children;
+	}
+
+	@Value
+	public static class ChildJsonSpec {
+		String name;
+
+		@JsonFormat(pattern = "yyyy MM dd")
+		LocalDate localDate;
+	}
 }
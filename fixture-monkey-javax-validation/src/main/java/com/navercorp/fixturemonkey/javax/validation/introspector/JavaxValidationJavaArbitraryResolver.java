@@ -18,11 +18,9 @@
 
 package com.navercorp.fixturemonkey.javax.validation.introspector;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Optional;
 
 import javax.validation.constraints.Email;
@@ -31,7 +29,6 @@ import javax.validation.constraints.Pattern;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.arbitraries.BigDecimalArbitrary;
 import net.jqwik.api.arbitraries.BigIntegerArbitrary;
@@ -46,6 +43,7 @@ import net.jqwik.api.arbitraries.StringArbitrary;
 import net.jqwik.web.api.Web;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.RegexGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -78,14 +76,15 @@ public final class JavaxValidationJavaArbitraryResolver implements JavaArbitrary
 		if (pattern.isPresent()) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(pattern.get(), minValue, maxValue);
+			int flags = Arrays.stream(pattern.get().flags())
+				.mapToInt(Pattern.Flag::getValue)
+				.reduce(0, (left, right) -> left | right);
+			Arbitrary<String> values = REGEX_GENERATOR.generate(pattern.get().regexp(), flags, minValue, maxValue);
 			if (notBlank) {
-				values = values.stream()
-					.filter(it -> it != null && !it.trim().isEmpty())
-					.collect(toList());
+				values = values.filter(it -> it != null && !it.trim().isEmpty());
 			}
 
-			return Arbitraries.of(values);
+			return values;
 		}
 
 		Arbitrary<String> arbitrary;
@@ -219,6 +219,8 @@ class JavaxValidationFixtureMonkeyTest {
 			char ch = actual.getPattern().charAt(i);
 			then(ch).isBetween('e', 'o');
 		}
+		then(actual.getSizedPattern()).matches("[a-z]+-\\d{3}").hasSizeLessThanOrEqualTo(8);
+		then(actual.getMinSizedPattern()).matches("[a-z]+-\\d{3}").hasSizeBetween(7, 7 + 255);
 		then(actual.getEmail()).containsOnlyOnce("@");
 	}
 
@@ -49,6 +49,14 @@ public class StringIntrospectorSpec {
 	@NotBlank
 	private String pattern;
 
+	@Pattern(regexp = "[a-z]+-\\d{3}")
+	@Size(max = 8)
+	private String sizedPattern;
+
+	@Pattern(regexp = "[a-z]+-\\d{3}")
+	@Size(min = 7)
+	private String minSizedPattern;
+
 	@Email
 	private String email;
 }
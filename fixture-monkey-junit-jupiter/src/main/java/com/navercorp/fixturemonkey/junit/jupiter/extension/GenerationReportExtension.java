@@ -0,0 +1,55 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.junit.jupiter.extension;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import com.navercorp.fixturemonkey.api.listener.InMemoryGenerationRecorder;
+
+/**
+ * Publishes the report of every static {@link InMemoryGenerationRecorder} field of a test class
+ * as a report entry after all tests of the class are done.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public class GenerationReportExtension implements AfterAllCallback {
+	public static final String REPORT_ENTRY_KEY = "fixture-monkey.generation";
+
+	@Override
+	public void afterAll(ExtensionContext context) throws Exception {
+		Class<?> testClass = context.getRequiredTestClass();
+		for (Field field : testClass.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers())
+				|| !InMemoryGenerationRecorder.class.isAssignableFrom(field.getType())) {
+				continue;
+			}
+
+			field.setAccessible(true);
+			InMemoryGenerationRecorder recorder = (InMemoryGenerationRecorder)field.get(null);
+			if (recorder != null) {
+				context.publishReportEntry(REPORT_ENTRY_KEY, recorder.report());
+			}
+		}
+	}
+}
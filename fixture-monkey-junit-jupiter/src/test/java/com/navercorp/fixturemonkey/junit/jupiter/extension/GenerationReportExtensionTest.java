@@ -0,0 +1,51 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.junit.jupiter.extension;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import lombok.Data;
+
+import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhase;
+import com.navercorp.fixturemonkey.api.listener.InMemoryGenerationRecorder;
+
+@ExtendWith(GenerationReportExtension.class)
+class GenerationReportExtensionTest {
+	private static final InMemoryGenerationRecorder RECORDER = new InMemoryGenerationRecorder();
+	private static final LabMonkey SUT = LabMonkey.labMonkeyBuilder()
+		.generationListener(RECORDER)
+		.build();
+
+	@RepeatedTest(10)
+	void giveMeOne() {
+		SUT.giveMeOne(Order.class);
+
+		then(RECORDER.getPhaseRecord(Order.class, GenerationPhase.SAMPLE).getCount()).isPositive();
+	}
+
+	@Data
+	public static class Order {
+		private Long id;
+		private String name;
+	}
+}
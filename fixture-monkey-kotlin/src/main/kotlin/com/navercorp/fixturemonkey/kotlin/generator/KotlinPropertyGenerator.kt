@@ -18,7 +18,7 @@
 
 package com.navercorp.fixturemonkey.kotlin.generator
 
-import com.navercorp.fixturemonkey.api.collection.LruCache
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache
 import com.navercorp.fixturemonkey.api.generator.PropertyGenerator
 import com.navercorp.fixturemonkey.api.property.CompositeProperty
 import com.navercorp.fixturemonkey.api.property.ElementProperty
@@ -34,7 +34,7 @@ import java.lang.reflect.AnnotatedType
 
 @API(since = "0.4.0", status = API.Status.EXPERIMENTAL)
 class KotlinPropertyGenerator : PropertyGenerator {
-    private val objectChildPropertiesCache = LruCache<Class<*>, List<Property>> (2000)
+    private val objectChildPropertiesCache = ConcurrentLruCache<Class<*>, List<Property>> (2000)
     override fun generateRootProperty(annotatedType: AnnotatedType): Property = RootProperty(annotatedType)
 
     override fun generateObjectChildProperties(annotatedType: AnnotatedType): List<Property> =
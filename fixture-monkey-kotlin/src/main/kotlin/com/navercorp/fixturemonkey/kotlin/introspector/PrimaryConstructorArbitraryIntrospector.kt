@@ -18,11 +18,13 @@
 
 package com.navercorp.fixturemonkey.kotlin.introspector
 
-import com.navercorp.fixturemonkey.api.collection.LruCache
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
+import com.navercorp.fixturemonkey.api.property.MemberAccessors
 import com.navercorp.fixturemonkey.api.type.Types
+import net.jqwik.api.Arbitrary
 import net.jqwik.api.Builders
 import org.apiguardian.api.API
 import org.apiguardian.api.API.Status.EXPERIMENTAL
@@ -32,12 +34,13 @@ import kotlin.reflect.KClass
 import kotlin.reflect.KFunction
 import kotlin.reflect.KParameter
 import kotlin.reflect.full.primaryConstructor
+import kotlin.reflect.jvm.javaConstructor
 
 @API(since = "0.4.0", status = EXPERIMENTAL)
 class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector {
     companion object {
         val INSTANCE = PrimaryConstructorArbitraryIntrospector()
-        private val CONSTRUCTOR_CACHE = LruCache<Class<*>, KFunction<*>>(2000)
+        private val CONSTRUCTOR_CACHE = ConcurrentLruCache<Class<*>, PrimaryConstructor>(2000)
     }
 
     override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult {
@@ -48,14 +51,41 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector {
 
         val arbitrariesByPropertyName = context.childrenArbitraryContexts.arbitrariesByPropertyName
 
-        val kotlinClass = Reflection.createKotlinClass(type) as KClass<*>
-        val constructor = CONSTRUCTOR_CACHE.computeIfAbsent(type) {
-            requireNotNull(kotlinClass.primaryConstructor) { "No kotlin primary constructor provided for $kotlinClass" }
+        val constructor = CONSTRUCTOR_CACHE.computeIfAbsent(type) { PrimaryConstructor.from(it) }
+        val parameters = constructor.parameters
+        val parameterArbitraries = parameters.map { arbitrariesByPropertyName[it.name] }
+
+        // a default value is used only if its parameter is missing, it has to be called by name
+        if (parameters.indices.any { parameterArbitraries[it] == null && parameters[it].isOptional }) {
+            return introspectByName(constructor.function, parameters, parameterArbitraries)
+        }
+
+        val parameterSize = parameters.size
+        var builderCombinator = Builders.withBuilder { ArrayList<Any?>(parameterSize) }
+        for (parameterArbitrary in parameterArbitraries) {
+            builderCombinator = builderCombinator.use(parameterArbitrary).`in` { list, value ->
+                list.apply {
+                    add(value)
+                }
+            }
         }
+        return ArbitraryIntrospectorResult(
+            builderCombinator.build {
+                constructor.call(it.toTypedArray())
+            }
+        )
+    }
 
+    private fun introspectByName(
+        constructor: KFunction<*>,
+        parameters: List<KParameter>,
+        parameterArbitraries: List<Arbitrary<*>?>
+    ): ArbitraryIntrospectorResult {
         var builderCombinator = Builders.withBuilder { mutableMapOf<KParameter, Any?>() }
-        for (parameter in constructor.parameters) {
-            val parameterArbitrary = arbitrariesByPropertyName[parameter.name]
+        for ((parameter, parameterArbitrary) in parameters.zip(parameterArbitraries)) {
+            if (parameterArbitrary == null && parameter.isOptional) {
+                continue
+            }
             builderCombinator = builderCombinator.use(parameterArbitrary).`in` { map, value ->
                 map.apply {
                     this[parameter] = value
@@ -68,4 +98,35 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector {
             }
         )
     }
+
+    /**
+     * A primary constructor resolved once per class, it is called positionally by its Java constructor.
+     * A constructor taking a value class is called by kotlin-reflect, its Java constructor takes the unboxed value.
+     */
+    private class PrimaryConstructor(
+        val function: KFunction<*>,
+        val parameters: List<KParameter>,
+        private val javaConstructor: ((Array<Any?>) -> Any?)?
+    ) {
+        fun call(arguments: Array<Any?>): Any? =
+            if (javaConstructor != null) javaConstructor.invoke(arguments) else function.call(*arguments)
+
+        companion object {
+            fun from(type: Class<*>): PrimaryConstructor {
+                val kotlinClass = Reflection.createKotlinClass(type) as KClass<*>
+                val function = requireNotNull(kotlinClass.primaryConstructor) {
+                    "No kotlin primary constructor provided for $kotlinClass"
+                }
+                val parameters = function.parameters
+
+                val takesValueClass = parameters.any { (it.type.classifier as? KClass<*>)?.isValue == true }
+                val javaConstructor = function.javaConstructor
+                    ?.takeIf { !takesValueClass && it.parameterCount == parameters.size }
+                    ?.let { MemberAccessors.constructor(it) }
+                    ?.let { accessor -> { arguments: Array<Any?> -> accessor.apply(arguments) } }
+
+                return PrimaryConstructor(function, parameters, javaConstructor)
+            }
+        }
+    }
 }
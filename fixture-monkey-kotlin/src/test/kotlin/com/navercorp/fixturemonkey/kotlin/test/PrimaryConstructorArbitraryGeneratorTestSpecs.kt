@@ -71,6 +71,19 @@ class DefaultValue(
     val stringValue: String = "default_value"
 )
 
+class DefaultParameter(
+    val intValue: Int,
+    prefix: String = "default_prefix"
+) {
+    val prefixed: String = prefix + intValue
+}
+
+class ParameterOrder(
+    val stringValue1: String,
+    val intValue: Int,
+    val stringValue2: String
+)
+
 class SecondaryConstructor(
     val intValue: Int,
     val stringValue: String
@@ -64,6 +64,28 @@ class PrimaryConstructorArbitraryIntrospectorTest {
         then(actual).isNotEqualTo("default_value")
     }
 
+    @Property
+    fun sampleDefaultParameterWithoutProperty() {
+        // when
+        val actual = sut.giveMeOne<DefaultParameter>()
+
+        then(actual.prefixed).isEqualTo("default_prefix" + actual.intValue)
+    }
+
+    @Property
+    fun sampleParametersInOrder() {
+        // when
+        val actual = sut.giveMeBuilder(ParameterOrder::class.java)
+            .set("stringValue1", "first")
+            .set("intValue", 2)
+            .set("stringValue2", "third")
+            .sample()
+
+        then(actual.stringValue1).isEqualTo("first")
+        then(actual.intValue).isEqualTo(2)
+        then(actual.stringValue2).isEqualTo("third")
+    }
+
     @Property
     fun sampleSecondaryConstructor() {
         // when
@@ -0,0 +1,70 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+import com.navercorp.fixturemonkey.jackson.plugin.JacksonPlugin;
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+/**
+ * Measures sampling an object for each way of constructing it, the LabMonkey is built once for a trial.
+ * Kotlin primary constructors are not covered here, the Kotlin module has no benchmark source set.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IntrospectorBenchmark {
+	@Param({"BEAN", "FIELD", "BUILDER", "CONSTRUCTOR", "JACKSON"})
+	private String introspector;
+
+	private LabMonkey labMonkey;
+	private Class<?> type;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LabMonkeyBuilder labMonkeyBuilder = LabMonkey.labMonkeyBuilder()
+			.plugin(new JavaxValidationPlugin());
+		switch (introspector) {
+			case "BEAN":
+				this.type = OrderSheet.class;
+				break;
+			case "FIELD":
+				labMonkeyBuilder.objectIntrospector(FieldReflectionArbitraryIntrospector.INSTANCE);
+				this.type = OrderSheet.class;
+				break;
+			case "BUILDER":
+				labMonkeyBuilder.objectIntrospector(BuilderArbitraryIntrospector.INSTANCE);
+				this.type = BuilderOrderSheet.class;
+				break;
+			case "CONSTRUCTOR":
+				labMonkeyBuilder.objectIntrospector(ConstructorPropertiesArbitraryIntrospector.INSTANCE);
+				this.type = ConstructorOrderSheet.class;
+				break;
+			case "JACKSON":
+				labMonkeyBuilder.plugin(new JacksonPlugin());
+				this.type = OrderSheet.class;
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown introspector " + introspector);
+		}
+		this.labMonkey = labMonkeyBuilder.build();
+	}
+
+	@Benchmark
+	public Object giveMeOne() {
+		return labMonkey.giveMeOne(type);
+	}
+}
@@ -0,0 +1,58 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+/**
+ * Measures the throughput of sampling from one LabMonkey and one builder shared by many threads.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class MultiThreadSamplingBenchmark {
+	private LabMonkey labMonkey;
+	private ArbitraryBuilder<OrderSheet> arbitraryBuilder;
+	private ArbitraryBuilder<OrderSheet> lazyArbitraryBuilder;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.labMonkey = LabMonkey.labMonkeyBuilder()
+			.plugin(new JavaxValidationPlugin())
+			.build();
+		this.arbitraryBuilder = labMonkey.giveMeBuilder(OrderSheet.class)
+			.set("id", "order-sheet");
+		this.lazyArbitraryBuilder = labMonkey.giveMeBuilder(OrderSheet.class)
+			.setLazy("id", () -> "order-sheet");
+
+		// jqwik creates its stores for sampling lazily, creating them from many threads at once conflicts.
+		labMonkey.giveMeOne(OrderSheet.class);
+	}
+
+	@Benchmark
+	public OrderSheet giveMeOne() {
+		return labMonkey.giveMeOne(OrderSheet.class);
+	}
+
+	@Benchmark
+	public OrderSheet sampleSharedBuilder() {
+		return arbitraryBuilder.sample();
+	}
+
+	@Benchmark
+	public OrderSheet sampleSharedLazyBuilder() {
+		return lazyArbitraryBuilder.sample();
+	}
+}
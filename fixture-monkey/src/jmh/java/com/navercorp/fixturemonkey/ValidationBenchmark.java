@@ -0,0 +1,43 @@
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+/**
+ * Measures the cost of filtering samples by bean validation.
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+	@Param({"true", "false"})
+	private boolean validOnly;
+
+	private ArbitraryBuilder<OrderSheet> arbitraryBuilder;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LabMonkey labMonkey = LabMonkey.labMonkeyBuilder()
+			.plugin(new JavaxValidationPlugin())
+			.build();
+		this.arbitraryBuilder = labMonkey.giveMeBuilder(OrderSheet.class)
+			.validOnly(validOnly);
+	}
+
+	@Benchmark
+	public OrderSheet sample() {
+		return arbitraryBuilder.sample();
+	}
+}
@@ -0,0 +1,168 @@
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.jqwik.api.Arbitrary;
+
+import com.navercorp.fixturemonkey.OrderSheet;
+import com.navercorp.fixturemonkey.api.context.MonkeyContext;
+import com.navercorp.fixturemonkey.api.option.GenerateOptions;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.arbitrary.ArbitraryExpression;
+
+/**
+ * Measures the LabMonkey pipeline stage by stage, traverse, manipulate, resolve and generate.
+ * Run with {@code ./gradlew :fixture-monkey:jmh}, allocation rates are reported by the gc profiler.
+ */
+@SuppressWarnings({"unused", "rawtypes"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ArbitraryResolverBenchmark {
+	private static final int MANIPULATE_BATCH_SIZE = 1000;
+
+	private GenerateOptions generateOptions;
+	private ManipulateOptions manipulateOptions;
+	private ArbitraryTraverser traverser;
+	private ArbitraryResolver resolver;
+	private MonkeyContext monkeyContext;
+	private RootProperty rootProperty;
+	private List<ArbitraryManipulator> manipulators;
+
+	private ArbitraryTree resolvedTree;
+	private ArbitraryTree unshrinkableTree;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.generateOptions = GenerateOptions.builder().build();
+		this.manipulateOptions = ManipulateOptions.builder()
+			.propertyNameResolvers(generateOptions.getPropertyNameResolvers())
+			.defaultPropertyNameResolver(generateOptions.getDefaultPropertyNameResolver())
+			.build();
+		this.traverser = new ArbitraryTraverser(generateOptions);
+		this.monkeyContext = MonkeyContext.builder().build();
+		this.resolver = new ArbitraryResolver(
+			traverser,
+			new NoneManipulatorOptimizer(),
+			generateOptions,
+			manipulateOptions,
+			monkeyContext
+		);
+		this.rootProperty = new RootProperty(new TypeReference<OrderSheet>() {
+		}.getAnnotatedType());
+		this.manipulators = Arrays.asList(
+			setManipulator("id", "order-sheet"),
+			setManipulator("products[0].productName", "product"),
+			setManipulator("products[0].items[0].quantity", 1L)
+		);
+		this.resolvedTree = resolveTree();
+		this.unshrinkableTree = resolveTree();
+		this.unshrinkableTree.setShrinkable(false);
+	}
+
+	@Benchmark
+	public ArbitraryNode traverse() {
+		return traverser.traverse(rootProperty, Collections.emptyList());
+	}
+
+	/**
+	 * Manipulators mutate the tree, so each invocation takes its own tree traversed before the iteration.
+	 * An iteration runs a batch of {@link #MANIPULATE_BATCH_SIZE} invocations, the score is the time of a batch.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(batchSize = MANIPULATE_BATCH_SIZE)
+	@Measurement(batchSize = MANIPULATE_BATCH_SIZE)
+	public ArbitraryTree manipulate(TraversedRootNodes traversed) {
+		ArbitraryTree arbitraryTree = newTree(traversed.next());
+		for (ArbitraryManipulator manipulator : manipulators) {
+			manipulator.manipulate(arbitraryTree);
+		}
+		return arbitraryTree;
+	}
+
+	@Benchmark
+	public Arbitrary<?> resolve() {
+		return resolver.resolve(rootProperty, manipulators, Collections.emptyList(), Collections.emptyList());
+	}
+
+	@Benchmark
+	public Arbitrary<?> generate() {
+		return resolvedTree.generate();
+	}
+
+	@Benchmark
+	public Object sample() {
+		return resolvedTree.generate().sample();
+	}
+
+	/**
+	 * Compared with {@link #sample()}, the gc profiler reports the bytes allocated per sample without shrinkables.
+	 */
+	@Benchmark
+	public Object sampleUnshrinkable() {
+		return unshrinkableTree.generate().sample();
+	}
+
+	private ArbitraryTree resolveTree() {
+		ArbitraryTree arbitraryTree = newTree(traverser.traverse(rootProperty, Collections.emptyList()));
+		for (ArbitraryManipulator manipulator : manipulators) {
+			manipulator.manipulate(arbitraryTree);
+		}
+		return arbitraryTree;
+	}
+
+	private ArbitraryTree newTree(ArbitraryNode rootNode) {
+		return new ArbitraryTree(
+			rootProperty,
+			rootNode,
+			generateOptions,
+			monkeyContext,
+			Collections.emptyList()
+		);
+	}
+
+	private ArbitraryManipulator setManipulator(String expression, Object value) {
+		return new ArbitraryManipulator(
+			ArbitraryExpression.from(expression).toNodeResolver(),
+			new NodeSetDecomposedValueManipulator<>(traverser, manipulateOptions, value, false)
+		);
+	}
+
+	/**
+	 * The trees for a batch of {@link #manipulate(TraversedRootNodes)}, traversed once for each iteration
+	 * since setting up each invocation would be measured with it.
+	 */
+	@State(Scope.Thread)
+	public static class TraversedRootNodes {
+		private final ArbitraryNode[] rootNodes = new ArbitraryNode[MANIPULATE_BATCH_SIZE];
+		private int index;
+
+		@Setup(Level.Iteration)
+		public void setUp(ArbitraryResolverBenchmark benchmark) {
+			for (int i = 0; i < rootNodes.length; i++) {
+				rootNodes[i] = benchmark.traverser.traverse(benchmark.rootProperty, Collections.emptyList());
+			}
+			this.index = 0;
+		}
+
+		private ArbitraryNode next() {
+			return rootNodes[index++];
+		}
+	}
+}
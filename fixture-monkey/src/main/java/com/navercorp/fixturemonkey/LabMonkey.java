@@ -18,9 +18,17 @@
 
 package com.navercorp.fixturemonkey;
 
-import static java.util.stream.Collectors.toList;
-
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -31,12 +39,14 @@ import net.jqwik.api.Arbitrary;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
+import com.navercorp.fixturemonkey.api.context.UniqueStoreMetrics;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
 import com.navercorp.fixturemonkey.resolver.ArbitraryBuilderContext;
 import com.navercorp.fixturemonkey.resolver.ArbitraryManipulator;
@@ -52,11 +62,13 @@ import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public class LabMonkey extends FixtureMonkey {
 	private final GenerateOptions generateOptions;
-	private final ManipulateOptionsBuilder manipulateOptionsBuilder;
+	private final ManipulateOptions manipulateOptions;
 	private final ArbitraryTraverser traverser;
-	private final ManipulatorOptimizer manipulatorOptimizer;
+	private final ArbitraryResolver resolver;
 	private final ArbitraryValidator validator;
-	private final MonkeyContext monkeyContext;
+	private volatile List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders =
+		Collections.emptyList();
+	private volatile WarmUpReport warmUpReport = WarmUpReport.EMPTY;
 
 	@SuppressFBWarnings("NP_NULL_PARAM_DEREF_NONVIRTUAL")
 	public LabMonkey(
@@ -69,14 +81,19 @@ public class LabMonkey extends FixtureMonkey {
 	) {
 		super(null, null, null, null, null);
 		this.generateOptions = generateOptions;
-		this.manipulateOptionsBuilder = manipulateOptionsBuilder;
 		this.traverser = traverser;
-		this.manipulatorOptimizer = manipulatorOptimizer;
 		this.validator = validator;
-		this.monkeyContext = monkeyContext;
 		manipulateOptionsBuilder.propertyNameResolvers(generateOptions.getPropertyNameResolvers());
 		manipulateOptionsBuilder.defaultPropertyNameResolver(generateOptions.getDefaultPropertyNameResolver());
-		manipulateOptionsBuilder.sampleRegisteredArbitraryBuilder(this);
+		this.manipulateOptions = manipulateOptionsBuilder.build(() -> this.registeredArbitraryBuilders);
+		this.resolver = new ArbitraryResolver(
+			traverser,
+			manipulatorOptimizer,
+			generateOptions,
+			manipulateOptions,
+			monkeyContext
+		);
+		this.registeredArbitraryBuilders = manipulateOptionsBuilder.sampleRegisteredArbitraryBuilders(this);
 	}
 
 	/**
@@ -96,10 +113,9 @@ public class LabMonkey extends FixtureMonkey {
 
 	@Override
 	public <T> DefaultArbitraryBuilder<T> giveMeBuilder(TypeReference<T> type) {
-		ManipulateOptions manipulateOptions = manipulateOptionsBuilder.build();
 		RootProperty rootProperty = new RootProperty(type.getAnnotatedType());
 
-		ArbitraryBuilder<?> registered = manipulateOptions.getRegisteredArbitraryBuilders().stream()
+		ArbitraryBuilder<?> registered = registeredArbitraryBuilders.stream()
 			.filter(it -> it.match(rootProperty))
 			.map(MatcherOperator::getOperator)
 			.findAny()
@@ -108,13 +124,7 @@ public class LabMonkey extends FixtureMonkey {
 		DefaultArbitraryBuilder<T> arbitraryBuilder = new DefaultArbitraryBuilder<>(
 			manipulateOptions,
 			rootProperty,
-			new ArbitraryResolver(
-				traverser,
-				manipulatorOptimizer,
-				generateOptions,
-				manipulateOptions,
-				monkeyContext
-			),
+			this.resolver,
 			traverser,
 			this.validator,
 			new ArbitraryBuilderContext()
@@ -129,7 +139,6 @@ public class LabMonkey extends FixtureMonkey {
 
 	@Override
 	public <T> DefaultArbitraryBuilder<T> giveMeBuilder(T value) {
-		ManipulateOptions manipulateOptions = manipulateOptionsBuilder.build();
 		ArbitraryBuilderContext context = new ArbitraryBuilderContext();
 		context.addManipulator(
 			new ArbitraryManipulator(
@@ -141,13 +150,7 @@ public class LabMonkey extends FixtureMonkey {
 		return new DefaultArbitraryBuilder<>(
 			manipulateOptions,
 			new RootProperty(new LazyAnnotatedType<>(() -> value)),
-			new ArbitraryResolver(
-				traverser,
-				manipulatorOptimizer,
-				generateOptions,
-				manipulateOptions,
-				monkeyContext
-			),
+			this.resolver,
 			traverser,
 			this.validator,
 			context
@@ -156,22 +159,40 @@ public class LabMonkey extends FixtureMonkey {
 
 	@Override
 	public <T> Stream<T> giveMe(Class<T> type) {
-		return this.giveMeBuilder(type).build().sampleStream();
+		return this.giveMeBuilder(type).sampleStream();
 	}
 
 	@Override
 	public <T> Stream<T> giveMe(TypeReference<T> typeReference) {
-		return this.giveMeBuilder(typeReference).build().sampleStream();
+		return this.giveMeBuilder(typeReference).sampleStream();
 	}
 
 	@Override
 	public <T> List<T> giveMe(Class<T> type, int size) {
-		return this.giveMe(type).limit(size).collect(toList());
+		return this.giveMeBuilder(type).sampleList(size);
 	}
 
 	@Override
 	public <T> List<T> giveMe(TypeReference<T> typeReference, int size) {
-		return this.giveMe(typeReference).limit(size).collect(toList());
+		return this.giveMeBuilder(typeReference).sampleList(size);
+	}
+
+	/**
+	 * Generates an array of {@code size} fixtures resolved once, a primitive type is filled as its wrapper type.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T[] giveMeArray(Class<T> type, int size) {
+		List<T> fixtures = this.giveMe(type, size);
+		T[] array = (T[])Array.newInstance(Types.primitiveToWrapper(type), size);
+		return fixtures.toArray(array);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T[] giveMeArray(TypeReference<T> typeReference, int size) {
+		List<T> fixtures = this.giveMe(typeReference, size);
+		Class<?> type = Types.primitiveToWrapper(Types.getActualType(typeReference.getType()));
+		T[] array = (T[])Array.newInstance(type, size);
+		return fixtures.toArray(array);
 	}
 
 	@Override
@@ -201,10 +222,74 @@ public class LabMonkey extends FixtureMonkey {
 	}
 
 	public <T> List<T> giveMe(Class<T> type, int size, FixtureCustomizer<T> customizer) {
-		return this.giveMe(type, customizer).limit(size).collect(toList());
+		return this.giveMeBuilder(type)
+			.customize(MatcherOperator.exactTypeMatchOperator(type, customizer))
+			.sampleList(size);
 	}
 
 	public <T> T giveMeOne(Class<T> type, FixtureCustomizer<T> customizer) {
 		return this.giveMe(type, 1, customizer).get(0);
 	}
+
+	/**
+	 * Introspects and resolves the given types in parallel on the common fork-join pool without sampling them,
+	 * the property, introspector and arbitrary caches are populated before the first fixture is generated.
+	 * A type failed to warm up is reported instead of thrown.
+	 */
+	public WarmUpReport warmUp(Collection<Class<?>> types) {
+		long startNanos = System.nanoTime();
+		Map<Class<?>, Long> elapsedNanosByType = new ConcurrentHashMap<>();
+		Map<Class<?>, Throwable> failuresByType = new ConcurrentHashMap<>();
+
+		List<ForkJoinTask<?>> tasks = new ArrayList<>();
+		for (Class<?> type : new LinkedHashSet<>(types)) {
+			tasks.add(ForkJoinPool.commonPool().submit(() -> {
+				long typeStartNanos = System.nanoTime();
+				try {
+					warmUp(type);
+					elapsedNanosByType.put(type, System.nanoTime() - typeStartNanos);
+				} catch (RuntimeException | LinkageError ex) {
+					failuresByType.put(type, ex);
+				}
+			}));
+		}
+		tasks.forEach(ForkJoinTask::join);
+
+		Map<Class<?>, Long> orderedElapsedNanosByType = new LinkedHashMap<>();
+		Map<Class<?>, Throwable> orderedFailuresByType = new LinkedHashMap<>();
+		for (Class<?> type : types) {
+			if (elapsedNanosByType.containsKey(type)) {
+				orderedElapsedNanosByType.put(type, elapsedNanosByType.get(type));
+			} else if (failuresByType.containsKey(type)) {
+				orderedFailuresByType.put(type, failuresByType.get(type));
+			}
+		}
+
+		WarmUpReport report = new WarmUpReport(
+			orderedElapsedNanosByType,
+			orderedFailuresByType,
+			System.nanoTime() - startNanos
+		);
+		this.warmUpReport = report;
+		return report;
+	}
+
+	/**
+	 * Returns the report of the latest warm-up, such as the one of the types given to {@link LabMonkeyBuilder}.
+	 */
+	public WarmUpReport getWarmUpReport() {
+		return warmUpReport;
+	}
+
+	/**
+	 * Returns the metrics of the stores tracking the generated values of unique properties.
+	 */
+	public UniqueStoreMetrics getUniqueStoreMetrics() {
+		return resolver.getUniqueStoreMetrics();
+	}
+
+	private void warmUp(Class<?> type) {
+		RootProperty rootProperty = new RootProperty(Types.generateAnnotatedTypeWithoutAnnotation(type));
+		this.resolver.warmUp(rootProperty, manipulateOptions.isShrinkSamples());
+	}
 }
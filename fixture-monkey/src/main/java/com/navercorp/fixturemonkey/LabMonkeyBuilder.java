@@ -20,16 +20,25 @@ package com.navercorp.fixturemonkey;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.junit.platform.commons.util.ReflectionUtils;
 
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
+import com.navercorp.fixturemonkey.api.context.UniqueStoreOptions;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfoGenerator;
@@ -39,11 +48,14 @@ import com.navercorp.fixturemonkey.api.generator.NullObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.PropertyGenerator;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
 import com.navercorp.fixturemonkey.api.introspector.CompositeArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.introspector.ServiceLoaderArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
@@ -68,11 +80,16 @@ public class LabMonkeyBuilder {
 	private final GenerateOptionsBuilder generateOptionsBuilder = GenerateOptions.builder();
 	private final ManipulateOptionsBuilder manipulateOptionsBuilder = ManipulateOptions.builder();
 	private ArbitraryValidator arbitraryValidator = new DefaultArbitraryValidator();
+	@Nullable
+	private GenerationListener generationListener = null;
 	private ManipulatorOptimizer manipulatorOptimizer = new NoneManipulatorOptimizer();
+	private UniqueStoreOptions uniqueStoreOptions = UniqueStoreOptions.DEFAULT;
 	private DecomposedContainerValueFactory defaultDecomposedContainerValueFactory = (obj) -> {
 		throw new IllegalArgumentException("given type is not supported container : " + obj.getClass().getTypeName());
 	};
 	private final Map<Class<?>, DecomposedContainerValueFactory> decomposableContainerFactoryMap = new HashMap<>();
+	private final Set<Class<?>> warmUpTypes = new LinkedHashSet<>();
+	private final Set<String> warmUpPackageNames = new LinkedHashSet<>();
 
 	public LabMonkeyBuilder pushPropertyGenerator(MatcherOperator<PropertyGenerator> propertyGenerator) {
 		generateOptionsBuilder.insertFirstPropertyGenerator(propertyGenerator);
@@ -258,6 +275,20 @@ public class LabMonkeyBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets whether the introspectors generated by the annotation processor of fixture-monkey-codegen are used.
+	 * It is disabled by default. If enabled, a type which has one is constructed by it
+	 * instead of the object introspector.
+	 */
+	public LabMonkeyBuilder useGeneratedIntrospectors(boolean useGeneratedIntrospectors) {
+		this.generateOptionsBuilder.generatedIntrospector(
+			it -> useGeneratedIntrospectors
+				? new ServiceLoaderArbitraryIntrospector()
+				: context -> ArbitraryIntrospectorResult.EMPTY
+		);
+		return this;
+	}
+
 	public LabMonkeyBuilder objectIntrospector(ArbitraryIntrospector objectIntrospector) {
 		this.generateOptionsBuilder.objectIntrospector(it -> objectIntrospector);
 		return this;
@@ -478,6 +509,24 @@ public class LabMonkeyBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets how many times a type could be nested in itself, a deeper property is generated as {@code null}
+	 * unless it is manipulated.
+	 */
+	public LabMonkeyBuilder maxRecursionDepth(int maxRecursionDepth) {
+		this.generateOptionsBuilder.maxRecursionDepth(maxRecursionDepth);
+		return this;
+	}
+
+	/**
+	 * Sets how many nodes could be traversed for a fixture, a property over the count is generated as {@code null}
+	 * unless it is manipulated.
+	 */
+	public LabMonkeyBuilder maxNodeCount(int maxNodeCount) {
+		this.generateOptionsBuilder.maxNodeCount(maxNodeCount);
+		return this;
+	}
+
 	public LabMonkey build() {
 		manipulateOptionsBuilder.additionalDecomposedContainerValueFactory(
 			obj -> {
@@ -500,18 +549,119 @@ public class LabMonkeyBuilder {
 		GenerateOptions generateOptions = generateOptionsBuilder.build();
 		ArbitraryTraverser traverser = new ArbitraryTraverser(generateOptions);
 
-		return new LabMonkey(
+		LabMonkey labMonkey = new LabMonkey(
 			generateOptions,
 			manipulateOptionsBuilder,
 			traverser,
 			manipulatorOptimizer,
 			this.arbitraryValidator,
-			MonkeyContext.builder().build()
+			MonkeyContext.builder()
+				.generationListener(generationListener)
+				.uniqueStoreOptions(uniqueStoreOptions)
+				.build()
 		);
+
+		List<Class<?>> typesToWarmUp = getTypesToWarmUp();
+		if (!typesToWarmUp.isEmpty()) {
+			labMonkey.warmUp(typesToWarmUp);
+		}
+		return labMonkey;
+	}
+
+	/**
+	 * Sets the listener reported with the elapsed time of each phase of generating fixtures.
+	 * It is not set by default, nothing is measured without it.
+	 *
+	 * @see com.navercorp.fixturemonkey.api.listener.InMemoryGenerationRecorder
+	 */
+	public LabMonkeyBuilder generationListener(GenerationListener generationListener) {
+		this.generationListener = generationListener;
+		return this;
 	}
 
 	public LabMonkeyBuilder useExpressionStrictMode() {
 		this.manipulateOptionsBuilder.expressionStrictMode(true);
 		return this;
 	}
+
+	/**
+	 * Sets whether a built arbitrary traverses and manipulates its tree only once if it could be reused.
+	 * It is enabled by default.
+	 */
+	public LabMonkeyBuilder compiledPlan(boolean compiledPlan) {
+		this.manipulateOptionsBuilder.compiledPlan(compiledPlan);
+		return this;
+	}
+
+	/**
+	 * Sets whether a sample violating the constraints regenerates only its violating properties
+	 * instead of being discarded as a whole. It is disabled by default.
+	 * A violation which could not be repaired in place, such as one of an immutable object, falls back to a new sample.
+	 */
+	public LabMonkeyBuilder repairViolations(boolean repairViolations) {
+		this.manipulateOptionsBuilder.repairViolations(repairViolations);
+		return this;
+	}
+
+	/**
+	 * Sets whether the fixtures sampled by {@code giveMe} or {@code sample} are generated as shrinkable.
+	 * It is disabled by default, each node of a sample is evaluated once without keeping its shrinkable.
+	 * The arbitraries built by {@code giveMeArbitrary} or {@code build} for property-based tests always shrink.
+	 */
+	public LabMonkeyBuilder shrinkSamples(boolean shrinkSamples) {
+		this.manipulateOptionsBuilder.shrinkSamples(shrinkSamples);
+		return this;
+	}
+
+	/**
+	 * Sets how the generated values of unique properties such as elements of a set are tracked.
+	 * Values are tracked exactly without a memory cap by default.
+	 *
+	 * @see LabMonkey#getUniqueStoreMetrics()
+	 */
+	public LabMonkeyBuilder uniqueStoreOptions(UniqueStoreOptions uniqueStoreOptions) {
+		this.uniqueStoreOptions = uniqueStoreOptions;
+		return this;
+	}
+
+	/**
+	 * Sets the types to be warmed up in parallel when the LabMonkey is built.
+	 * The elapsed time of each type is reported by {@link LabMonkey#getWarmUpReport()}.
+	 *
+	 * @see LabMonkey#warmUp(java.util.Collection)
+	 */
+	public LabMonkeyBuilder warmUp(Class<?>... types) {
+		this.warmUpTypes.addAll(Arrays.asList(types));
+		return this;
+	}
+
+	/**
+	 * Sets the packages scanned from the classpath for the types to be warmed up when the LabMonkey is built,
+	 * including their subpackages. Only concrete classes without type parameters are warmed up.
+	 */
+	public LabMonkeyBuilder warmUpPackages(String... packageNames) {
+		this.warmUpPackageNames.addAll(Arrays.asList(packageNames));
+		return this;
+	}
+
+	private List<Class<?>> getTypesToWarmUp() {
+		Set<Class<?>> types = new LinkedHashSet<>(warmUpTypes);
+		for (String packageName : warmUpPackageNames) {
+			types.addAll(
+				ReflectionUtils.findAllClassesInPackage(packageName, LabMonkeyBuilder::isWarmUpCandidate, name -> true)
+			);
+		}
+		return new ArrayList<>(types);
+	}
+
+	private static boolean isWarmUpCandidate(Class<?> type) {
+		return !type.isInterface()
+			&& !type.isAnnotation()
+			&& !Modifier.isAbstract(type.getModifiers())
+			&& !type.isAnonymousClass()
+			&& !type.isLocalClass()
+			&& !type.isSynthetic()
+			&& (!type.isMemberClass() || Modifier.isStatic(type.getModifiers()))
+			&& type.getTypeParameters().length == 0;
+	}
 }
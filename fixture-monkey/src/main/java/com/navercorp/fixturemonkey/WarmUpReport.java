@@ -0,0 +1,76 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * The result of warming up types by {@link LabMonkey#warmUp(java.util.Collection)}.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class WarmUpReport {
+	public static final WarmUpReport EMPTY = new WarmUpReport(Collections.emptyMap(), Collections.emptyMap(), 0L);
+
+	private final Map<Class<?>, Long> elapsedNanosByType;
+	private final Map<Class<?>, Throwable> failuresByType;
+	private final long elapsedNanos;
+
+	public WarmUpReport(
+		Map<Class<?>, Long> elapsedNanosByType,
+		Map<Class<?>, Throwable> failuresByType,
+		long elapsedNanos
+	) {
+		this.elapsedNanosByType = Collections.unmodifiableMap(elapsedNanosByType);
+		this.failuresByType = Collections.unmodifiableMap(failuresByType);
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns the elapsed time of warming up each type which is warmed up successfully.
+	 */
+	public Map<Class<?>, Long> getElapsedNanosByType() {
+		return elapsedNanosByType;
+	}
+
+	/**
+	 * Returns the cause of each type which could not be warmed up, it would fail when it is generated as well.
+	 */
+	public Map<Class<?>, Throwable> getFailuresByType() {
+		return failuresByType;
+	}
+
+	/**
+	 * Returns the elapsed time of the whole warm-up, types are warmed up in parallel.
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "WarmUpReport{"
+			+ "elapsedNanosByType=" + elapsedNanosByType
+			+ ", failuresByType=" + failuresByType
+			+ ", elapsedNanos=" + elapsedNanos + '}';
+	}
+}
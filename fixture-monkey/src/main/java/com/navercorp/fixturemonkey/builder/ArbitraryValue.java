@@ -18,12 +18,15 @@
 
 package com.navercorp.fixturemonkey.builder;
 
+import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 
@@ -38,8 +41,19 @@ import net.jqwik.api.RandomGenerator;
 import net.jqwik.api.Shrinkable;
 import net.jqwik.api.TooManyFilterMissesException;
 
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhase;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhases;
+import com.navercorp.fixturemonkey.resolver.RepairableArbitrary;
 import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
 
+/**
+ * Samples the arbitrary resolved by {@link ArbitraryBuilder}.
+ * It is safe to sample from many threads, {@code sampleStream().parallel()} scales with cores
+ * as long as the builder is not manipulated by lazy values or limited counts,
+ * those are resolved for each sample one at a time.
+ */
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 final class ArbitraryValue<T> implements Arbitrary<T> {
 	private final MonkeyRandomGenerator<T> monkeyRandomGenerator;
@@ -47,9 +61,17 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 	public ArbitraryValue(
 		Supplier<Arbitrary<T>> generateArbitrary,
 		ArbitraryValidator validator,
-		boolean validOnly
+		boolean validOnly,
+		Type rootType,
+		@Nullable GenerationListener generationListener
 	) {
-		this.monkeyRandomGenerator = new MonkeyRandomGenerator<>(generateArbitrary, validator, validOnly);
+		this.monkeyRandomGenerator = new MonkeyRandomGenerator<>(
+			generateArbitrary,
+			validator,
+			validOnly,
+			rootType,
+			generationListener
+		);
 	}
 
 	@Override
@@ -68,33 +90,46 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 	}
 
 	private static final class MonkeyRandomGenerator<T> implements RandomGenerator<T> {
+		private static final int MAX_FILTER_MISSES = 10000;
+		private static final int MAX_REPAIRS = 10;
+
 		private final Logger log = LoggerFactory.getLogger(this.getClass());
 
 		private final Supplier<Arbitrary<T>> generateArbitrary;
 		private final boolean validOnly;
 		private final ArbitraryValidator validator;
+		private final Type rootType;
+		@Nullable
+		private final GenerationListener generationListener;
 		@SuppressWarnings("rawtypes")
 		private final Map<String, ConstraintViolation> violations = new ConcurrentHashMap<>();
-		private Exception lastException;
+		private volatile Exception lastException;
+		@Nullable
+		private volatile FilteredGenerator<T> filteredGenerator;
 
 		private MonkeyRandomGenerator(
 			Supplier<Arbitrary<T>> generateArbitrary,
 			ArbitraryValidator validator,
-			boolean validOnly
+			boolean validOnly,
+			Type rootType,
+			@Nullable GenerationListener generationListener
 		) {
 			this.generateArbitrary = generateArbitrary;
 			this.validator = validator;
 			this.validOnly = validOnly;
+			this.rootType = rootType;
+			this.generationListener = generationListener;
 		}
 
-		@SuppressWarnings("unchecked")
 		@Override
 		public Shrinkable<T> next(Random random) {
 			try {
-				return getArbitrary()
-					.filter((Predicate<T>)this.validateFilter(validOnly))
-					.generator(1000)
-					.next(random);
+				return GenerationPhases.measure(
+					generationListener,
+					rootType,
+					GenerationPhase.SAMPLE,
+					() -> getGenerator().next(random)
+				);
 			} catch (TooManyFilterMissesException ex) {
 				StringBuilder builder = new StringBuilder();
 				this.violations.values().forEach(violation -> builder
@@ -122,24 +157,107 @@ final class ArbitraryValue<T> implements Arbitrary<T> {
 					return true;
 				}
 
-				try {
-					this.validator.validate(fixture);
+				if (this.validate(fixture) == null) {
 					return true;
-				} catch (ConstraintViolationException ex) {
-					ex.getConstraintViolations().forEach(violation ->
-						this.violations.put(
-							violation.getRootBeanClass().getName() + violation.getPropertyPath(),
-							violation
-						)
-					);
-					this.lastException = ex;
 				}
+				this.recordFilterMiss();
 				return false;
 			};
 		}
 
-		private synchronized Arbitrary<T> getArbitrary() {
-			return generateArbitrary.get();
+		/**
+		 * Regenerates only the violating properties of a sample, a new sample is generated
+		 * if they could not be regenerated or are still violated after {@link #MAX_REPAIRS} tries.
+		 */
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		private Shrinkable<T> nextRepaired(RandomGenerator<T> generator, ViolationRepairer repairer, Random random) {
+			for (int miss = 0; miss < MAX_FILTER_MISSES; miss++) {
+				Shrinkable<T> shrinkable = generator.next(random);
+				T fixture = shrinkable.value();
+				if (fixture == null) {
+					return shrinkable;
+				}
+
+				Set violations = this.validate(fixture);
+				for (int repair = 0; violations != null && repair < MAX_REPAIRS; repair++) {
+					if (violations.isEmpty() || !repairer.repair(fixture, violations, random)) {
+						break;
+					}
+					violations = this.validate(fixture);
+				}
+				if (violations == null) {
+					return Shrinkable.unshrinkable(fixture);
+				}
+				this.recordFilterMiss();
+			}
+			throw new TooManyFilterMissesException(
+				String.format("Repaired or generated %s times without a valid sample", MAX_FILTER_MISSES)
+			);
+		}
+
+		/**
+		 * Returns the violations of the given fixture, {@code null} if it is valid.
+		 */
+		@Nullable
+		private Set<ConstraintViolation<?>> validate(Object fixture) {
+			try {
+				GenerationPhases.measure(generationListener, rootType, GenerationPhase.VALIDATE, () -> {
+					this.validator.validate(fixture);
+					return null;
+				});
+				return null;
+			} catch (ConstraintViolationException ex) {
+				ex.getConstraintViolations().forEach(violation ->
+					this.violations.put(
+						violation.getRootBeanClass().getName() + violation.getPropertyPath(),
+						violation
+					)
+				);
+				this.lastException = ex;
+				return ex.getConstraintViolations();
+			}
+		}
+
+		private void recordFilterMiss() {
+			if (generationListener != null) {
+				generationListener.onFilterMiss(rootType);
+			}
+		}
+
+		/**
+		 * Reuses the filtered generator as long as the same arbitrary is supplied,
+		 * a compiled plan is filtered once instead of once for each sample.
+		 */
+		@SuppressWarnings("unchecked")
+		private RandomGenerator<T> getGenerator() {
+			Arbitrary<T> arbitrary = generateArbitrary.get();
+			FilteredGenerator<T> cached = this.filteredGenerator;
+			if (cached != null && cached.arbitrary == arbitrary) {
+				return cached.generator;
+			}
+
+			RandomGenerator<T> generator;
+			if (validOnly && arbitrary instanceof RepairableArbitrary) {
+				RandomGenerator<T> unfiltered = arbitrary.generator(1000);
+				ViolationRepairer repairer = new ViolationRepairer((RepairableArbitrary<?>)arbitrary, this.validator);
+				generator = random -> this.nextRepaired(unfiltered, repairer, random);
+			} else {
+				generator = arbitrary
+					.filter((Predicate<T>)this.validateFilter(validOnly))
+					.generator(1000);
+			}
+			this.filteredGenerator = new FilteredGenerator<>(arbitrary, generator);
+			return generator;
+		}
+	}
+
+	private static final class FilteredGenerator<T> {
+		private final Arbitrary<T> arbitrary;
+		private final RandomGenerator<T> generator;
+
+		private FilteredGenerator(Arbitrary<T> arbitrary, RandomGenerator<T> generator) {
+			this.arbitrary = arbitrary;
+			this.generator = generator;
 		}
 	}
 }
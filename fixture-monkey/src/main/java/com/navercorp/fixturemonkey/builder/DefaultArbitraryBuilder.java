@@ -21,6 +21,7 @@ package com.navercorp.fixturemonkey.builder;
 import static com.navercorp.fixturemonkey.Constants.DEFAULT_ELEMENT_MAX_SIZE;
 import static com.navercorp.fixturemonkey.Constants.HEAD_NAME;
 import static com.navercorp.fixturemonkey.Constants.MAX_MANIPULATION_COUNT;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
@@ -511,39 +512,24 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		return this;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Arbitrary<T> build() {
-		List<ArbitraryManipulator> buildManipulators = new ArrayList<>(this.context.getManipulators());
-
-		return new ArbitraryValue<>(
-			() -> {
-				Arbitrary<T> arbitrary = (Arbitrary<T>)this.resolver.resolve(
-					this.rootProperty,
-					buildManipulators,
-					context.getCustomizers(),
-					context.getContainerInfoManipulators()
-				);
-				return arbitrary;
-			},
-			this.validator,
-			context.isValidOnly()
-		);
+		return this.build(true);
 	}
 
 	@Override
 	public T sample() {
-		return this.build().sample();
+		return this.build(manipulateOptions.isShrinkSamples()).sample();
 	}
 
 	@Override
 	public Stream<T> sampleStream() {
-		return this.build().sampleStream();
+		return this.build(manipulateOptions.isShrinkSamples()).sampleStream();
 	}
 
 	@Override
 	public List<T> sampleList(int size) {
-		return this.sampleStream().limit(size).collect(toList());
+		return this.sampleStream().limit(size).collect(toCollection(() -> new ArrayList<>(size)));
 	}
 
 	@Override
@@ -558,6 +544,26 @@ public final class DefaultArbitraryBuilder<T> extends OldArbitraryBuilderImpl<T>
 		);
 	}
 
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Arbitrary<T> build(boolean shrinkable) {
+		List<ArbitraryManipulator> buildManipulators = new ArrayList<>(this.context.getManipulators());
+
+		Supplier compiledPlan = this.resolver.compile(
+			this.rootProperty,
+			buildManipulators,
+			context.getCustomizers(),
+			context.getContainerInfoManipulators(),
+			shrinkable
+		);
+		return new ArbitraryValue<>(
+			(Supplier<Arbitrary<T>>)compiledPlan,
+			this.validator,
+			context.isValidOnly(),
+			this.rootProperty.getType(),
+			this.resolver.getGenerationListener()
+		);
+	}
+
 	private String resolveExpression(ExpressionGenerator expressionGenerator) {
 		return expressionGenerator.generate(property -> {
 			PropertyNameResolver propertyNameResolver = manipulateOptions.getPropertyNameResolver(property);
@@ -0,0 +1,207 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.builder;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.ElementKind;
+import javax.validation.Path;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.RandomGenerator;
+
+import com.navercorp.fixturemonkey.api.property.MemberAccessors;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.resolver.RepairableArbitrary;
+import com.navercorp.fixturemonkey.resolver.RepairableArbitrary.PropertyPathElement;
+import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
+
+/**
+ * Regenerates the properties of a sampled object reported by its constraint violations, the rest is kept.
+ * A violation of a container element or of a bean regenerates the property holding it.
+ * A manipulated property is not regenerated, the violation is regarded as not repairable.
+ * A regenerated property is validated by itself until it is valid, not the whole object.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+final class ViolationRepairer {
+	private static final int MAX_PROPERTY_REPAIRS = 10;
+
+	private final RepairableArbitrary<?> repairableArbitrary;
+	private final ArbitraryValidator validator;
+
+	ViolationRepairer(RepairableArbitrary<?> repairableArbitrary, ArbitraryValidator validator) {
+		this.repairableArbitrary = repairableArbitrary;
+		this.validator = validator;
+	}
+
+	/**
+	 * Returns whether every violating property is regenerated valid, the object is left partly repaired if not.
+	 * The object should be validated again as a whole for the constraints across its properties.
+	 */
+	@SuppressWarnings("rawtypes")
+	boolean repair(Object fixture, Set<ConstraintViolation> violations, Random random) {
+		for (ConstraintViolation violation : violations) {
+			if (!repair(fixture, violation.getPropertyPath(), random)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean repair(Object fixture, Path propertyPath, Random random) {
+		List<Path.Node> nodes = new ArrayList<>();
+		for (Path.Node node : propertyPath) {
+			nodes.add(node);
+		}
+		while (!nodes.isEmpty() && nodes.get(nodes.size() - 1).getKind() != ElementKind.PROPERTY) {
+			nodes.remove(nodes.size() - 1);
+		}
+		if (nodes.isEmpty()) {
+			return false;
+		}
+
+		Object owner = fixture;
+		List<PropertyPathElement> propertyPathElements = new ArrayList<>();
+		for (int i = 0; i < nodes.size(); i++) {
+			Path.Node node = nodes.get(i);
+			if (node.getKind() != ElementKind.PROPERTY) {
+				return false;
+			}
+			propertyPathElements.add(new PropertyPathElement(node.getName(), node.isInIterable(), node.getIndex()));
+			if (node.isInIterable()) {
+				owner = getElement(owner, node);
+			}
+			if (owner == null) {
+				return false;
+			}
+			if (i != nodes.size() - 1) {
+				owner = getPropertyValue(owner, node.getName());
+			}
+		}
+
+		String propertyName = nodes.get(nodes.size() - 1).getName();
+		RandomGenerator<Object> generator = repairableArbitrary.findPropertyGenerator(propertyPathElements);
+		if (generator == null) {
+			return false;
+		}
+		for (int repair = 0; repair < MAX_PROPERTY_REPAIRS; repair++) {
+			if (!setPropertyValue(owner, propertyName, generator.next(random).value())) {
+				return false;
+			}
+			if (isValidProperty(owner, propertyName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isValidProperty(Object owner, String propertyName) {
+		try {
+			validator.validateProperty(owner, propertyName);
+			return true;
+		} catch (ConstraintViolationException ex) {
+			return false;
+		}
+	}
+
+	@Nullable
+	private static Object getElement(Object container, Path.Node node) {
+		Integer index = node.getIndex();
+		Object key = node.getKey();
+		if (index != null) {
+			if (container instanceof List) {
+				List<?> list = (List<?>)container;
+				return index < list.size() ? list.get(index) : null;
+			}
+			if (container.getClass().isArray()) {
+				return index < Array.getLength(container) ? Array.get(container, index) : null;
+			}
+			if (container instanceof Iterable) {
+				Iterator<?> iterator = ((Iterable<?>)container).iterator();
+				for (int i = 0; i < index && iterator.hasNext(); i++) {
+					iterator.next();
+				}
+				return iterator.hasNext() ? iterator.next() : null;
+			}
+		} else if (key != null && container instanceof Map) {
+			return ((Map<?, ?>)container).get(key);
+		}
+		return null;
+	}
+
+	@Nullable
+	private static Object getPropertyValue(Object owner, String propertyName) {
+		try {
+			PropertyDescriptor propertyDescriptor = PropertyCache.getPropertyDescriptors(owner.getClass())
+				.get(propertyName);
+			if (propertyDescriptor != null && propertyDescriptor.getReadMethod() != null) {
+				return MemberAccessors.noArgsInvoker(propertyDescriptor.getReadMethod()).apply(owner);
+			}
+
+			Field field = PropertyCache.getFields(owner.getClass()).get(propertyName);
+			return field != null ? MemberAccessors.fieldGetter(field).apply(owner) : null;
+		} catch (Exception ex) {
+			// an accessor rethrows IllegalAccessException unchecked, the rest is thrown as it is
+			if (!(ex instanceof IllegalAccessException)) {
+				throw ex;
+			}
+			return null;
+		}
+	}
+
+	private static boolean setPropertyValue(Object owner, String propertyName, @Nullable Object value) {
+		try {
+			PropertyDescriptor propertyDescriptor = PropertyCache.getPropertyDescriptors(owner.getClass())
+				.get(propertyName);
+			Method writeMethod = propertyDescriptor != null ? propertyDescriptor.getWriteMethod() : null;
+			if (writeMethod != null) {
+				MemberAccessors.singleArgInvoker(writeMethod).apply(owner, value);
+				return true;
+			}
+
+			Field field = PropertyCache.getFields(owner.getClass()).get(propertyName);
+			if (field == null || Modifier.isFinal(field.getModifiers())) {
+				return false;
+			}
+			MemberAccessors.fieldSetter(field).accept(owner, value);
+			return true;
+		} catch (Exception ex) {
+			// an accessor rethrows IllegalAccessException unchecked, the rest is thrown as it is
+			if (!(ex instanceof IllegalAccessException)) {
+				throw ex;
+			}
+			return false;
+		}
+	}
+}
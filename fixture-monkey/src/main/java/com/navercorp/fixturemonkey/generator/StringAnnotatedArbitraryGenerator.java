@@ -18,10 +18,8 @@
 
 package com.navercorp.fixturemonkey.generator;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Optional;
 
 import javax.validation.constraints.Digits;
@@ -34,6 +32,8 @@ import net.jqwik.api.Arbitrary;
 import net.jqwik.api.arbitraries.StringArbitrary;
 import net.jqwik.web.api.Web;
 
+import com.navercorp.fixturemonkey.api.generator.RegexGenerator;
+
 public class StringAnnotatedArbitraryGenerator implements AnnotatedArbitraryGenerator<String> {
 	public static final StringAnnotatedArbitraryGenerator INSTANCE = new StringAnnotatedArbitraryGenerator();
 	private static final java.util.regex.Pattern EMPTY_PATTERN = java.util.regex.Pattern.compile("");
@@ -72,13 +72,14 @@ public class StringAnnotatedArbitraryGenerator implements AnnotatedArbitraryGene
 		if (pattern.isPresent()) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(pattern.get(), minValue, maxValue);
+			int flags = Arrays.stream(pattern.get().flags())
+				.mapToInt(Pattern.Flag::getValue)
+				.reduce(0, (left, right) -> left | right);
+			Arbitrary<String> values = REGEX_GENERATOR.generate(pattern.get().regexp(), flags, minValue, maxValue);
 			if (notBlank) {
-				values = values.stream()
-					.filter(this::isNotBlank)
-					.collect(toList());
+				values = values.filter(this::isNotBlank);
 			}
-			return Arbitraries.of(values);
+			return values;
 		}
 
 		Arbitrary<String> arbitrary;
@@ -34,4 +34,8 @@ public final class ApplyNodeCountManipulator implements NodeManipulator {
 			nodeManipulator.manipulate(arbitraryNode);
 		}
 	}
+
+	public NodeManipulator getNodeManipulator() {
+		return nodeManipulator;
+	}
 }
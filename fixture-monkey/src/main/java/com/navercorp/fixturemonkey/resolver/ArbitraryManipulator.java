@@ -42,4 +42,30 @@ public final class ArbitraryManipulator {
 			nodeManipulator.manipulate(node);
 		}
 	}
+
+	/**
+	 * Returns whether the result of this manipulator is the same for every sample.
+	 * Lazy values and unknown manipulators are evaluated for each sample.
+	 */
+	boolean isReusable() {
+		return isReusable(nodeManipulator);
+	}
+
+	/**
+	 * Returns whether this manipulator keeps no state between samples, so it could manipulate many trees at once.
+	 * A limited count is consumed by each sample.
+	 */
+	boolean isStateless() {
+		return !(nodeManipulator instanceof ApplyNodeCountManipulator) && isReusable(nodeManipulator);
+	}
+
+	private static boolean isReusable(NodeManipulator nodeManipulator) {
+		if (nodeManipulator instanceof ApplyNodeCountManipulator) {
+			return isReusable(((ApplyNodeCountManipulator)nodeManipulator).getNodeManipulator());
+		}
+
+		return nodeManipulator instanceof NodeSetDecomposedValueManipulator
+			|| nodeManipulator instanceof NodeNullityManipulator
+			|| nodeManipulator instanceof NodeFilterManipulator;
+	}
 }
@@ -19,8 +19,10 @@
 package com.navercorp.fixturemonkey.resolver;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
@@ -32,34 +34,84 @@ import net.jqwik.api.Arbitrary;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 
+/**
+ * A node of {@link ArbitraryTree}.
+ * A node could be forked from a shared node, the forked node copies its children on write.
+ * Children are copied when they are retrieved by {@link #getChildren()} to be manipulated,
+ * untouched subtrees are shared with the original node.
+ * A node truncated by the traversal budget has no children until they are retrieved to be manipulated.
+ */
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 final class ArbitraryNode {
 	private ArbitraryProperty arbitraryProperty;
 
 	private List<ArbitraryNode> children;
 
+	private boolean childrenShared = false;
+
+	@Nullable
+	private Supplier<List<ArbitraryNode>> truncatedChildren;
+
+	private final boolean shareable;
+
 	@Nullable
 	private Arbitrary<?> arbitrary;
 
 	private boolean manipulated = false;
 
 	@SuppressWarnings("rawtypes")
-	private final List<Predicate> arbitraryFilters = new ArrayList<>();
+	private final List<Predicate> arbitraryFilters;
 
 	ArbitraryNode(
 		ArbitraryProperty arbitraryProperty,
 		List<ArbitraryNode> children
+	) {
+		this(arbitraryProperty, children, false);
+	}
+
+	ArbitraryNode(
+		ArbitraryProperty arbitraryProperty,
+		List<ArbitraryNode> children,
+		boolean shareable
 	) {
 		this.arbitraryProperty = arbitraryProperty;
 		this.children = children;
+		this.shareable = shareable;
+		this.arbitraryFilters = new ArrayList<>();
+	}
+
+	private ArbitraryNode(ArbitraryNode origin) {
+		this.arbitraryProperty = origin.arbitraryProperty;
+		this.children = origin.children;
+		this.childrenShared = true;
+		this.truncatedChildren = origin.truncatedChildren;
+		this.shareable = origin.shareable;
+		this.arbitrary = origin.arbitrary;
+		this.manipulated = origin.manipulated;
+		this.arbitraryFilters = new ArrayList<>(origin.arbitraryFilters);
 	}
 
 	public void setArbitraryProperty(ArbitraryProperty arbitraryProperty) {
 		this.arbitraryProperty = arbitraryProperty;
 	}
 
+	/**
+	 * Returns a node whose children are traversed when they are retrieved to be manipulated.
+	 */
+	static ArbitraryNode truncated(
+		ArbitraryProperty arbitraryProperty,
+		Supplier<List<ArbitraryNode>> truncatedChildren,
+		boolean shareable
+	) {
+		ArbitraryNode node = new ArbitraryNode(arbitraryProperty, Collections.emptyList(), shareable);
+		node.truncatedChildren = truncatedChildren;
+		return node;
+	}
+
 	public void setChildren(List<ArbitraryNode> children) {
 		this.children = children;
+		this.childrenShared = false;
+		this.truncatedChildren = null;
 	}
 
 	public ArbitraryProperty getArbitraryProperty() {
@@ -70,10 +122,56 @@ final class ArbitraryNode {
 		return this.getArbitraryProperty().getObjectProperty().getProperty();
 	}
 
+	/**
+	 * Returns the children to be manipulated, shared children are copied before returned.
+	 */
 	public List<ArbitraryNode> getChildren() {
+		if (truncatedChildren != null) {
+			this.children = truncatedChildren.get();
+			this.childrenShared = false;
+			this.truncatedChildren = null;
+		}
+
+		if (childrenShared) {
+			List<ArbitraryNode> forkedChildren = new ArrayList<>(children.size());
+			for (ArbitraryNode child : children) {
+				forkedChildren.add(child.fork());
+			}
+			this.children = forkedChildren;
+			this.childrenShared = false;
+		}
 		return this.children;
 	}
 
+	/**
+	 * Returns the children without copying shared children, they should not be manipulated.
+	 */
+	List<ArbitraryNode> getReadOnlyChildren() {
+		return Collections.unmodifiableList(this.children);
+	}
+
+	/**
+	 * Returns whether the children of this node are not traversed, the node is generated as {@code null}.
+	 */
+	boolean isTruncated() {
+		return truncatedChildren != null;
+	}
+
+	/**
+	 * Returns a new node which shares its children with this node until they are manipulated.
+	 * This node should not be manipulated after forked.
+	 */
+	ArbitraryNode fork() {
+		return new ArbitraryNode(this);
+	}
+
+	/**
+	 * Returns whether traversing the same property again would result in the same subtree.
+	 */
+	boolean isShareable() {
+		return shareable;
+	}
+
 	@Nullable
 	public Arbitrary<?> getArbitrary() {
 		return this.arbitrary;
@@ -0,0 +1,85 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+
+/**
+ * An immutable path of {@link ArbitraryProperty} from the child of a root to a node, linked from the last one.
+ * Appending a property shares the path of the parent instead of copying it.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+final class ArbitraryPropertyPath {
+	static final ArbitraryPropertyPath EMPTY = new ArbitraryPropertyPath(null, null, 0);
+
+	@Nullable
+	private final ArbitraryPropertyPath parentPath;
+	@Nullable
+	private final ArbitraryProperty lastArbitraryProperty;
+	private final int size;
+
+	private ArbitraryPropertyPath(
+		@Nullable ArbitraryPropertyPath parentPath,
+		@Nullable ArbitraryProperty lastArbitraryProperty,
+		int size
+	) {
+		this.parentPath = parentPath;
+		this.lastArbitraryProperty = lastArbitraryProperty;
+		this.size = size;
+	}
+
+	static ArbitraryPropertyPath of(List<ArbitraryProperty> arbitraryProperties) {
+		ArbitraryPropertyPath path = EMPTY;
+		for (ArbitraryProperty arbitraryProperty : arbitraryProperties) {
+			path = path.append(arbitraryProperty);
+		}
+		return path;
+	}
+
+	ArbitraryPropertyPath append(ArbitraryProperty arbitraryProperty) {
+		return new ArbitraryPropertyPath(this, arbitraryProperty, size + 1);
+	}
+
+	/**
+	 * Returns the path without the last property, {@code null} if it is empty.
+	 */
+	@Nullable
+	ArbitraryPropertyPath getParentPath() {
+		return parentPath;
+	}
+
+	/**
+	 * Returns the last property, {@code null} if it is empty.
+	 */
+	@Nullable
+	ArbitraryProperty getLastArbitraryProperty() {
+		return lastArbitraryProperty;
+	}
+
+	int size() {
+		return size;
+	}
+}
@@ -23,9 +23,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -33,8 +36,12 @@ import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
+import com.navercorp.fixturemonkey.api.context.UniqueStoreMetrics;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhase;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhases;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -69,10 +76,101 @@ public final class ArbitraryResolver {
 		List<ArbitraryManipulator> manipulators,
 		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
 		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		return resolveTree(
+			rootProperty,
+			traverse(rootProperty, containerInfoManipulators),
+			manipulators,
+			customizers,
+			containerInfoManipulators,
+			true
+		).generate();
+	}
+
+	/**
+	 * Compiles the given builder state into a plan which could be sampled many times.
+	 * The tree is traversed and manipulated once if the result does not depend on the sample,
+	 * otherwise it is resolved again for each sample.
+	 * An arbitrary which is not shrinkable is only for sampling values, it evaluates each node once for a sample.
+	 */
+	@SuppressWarnings("rawtypes")
+	public Supplier<Arbitrary<?>> compile(
+		RootProperty rootProperty,
+		List<ArbitraryManipulator> manipulators,
+		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		boolean shrinkable
+	) {
+		boolean compilable = manipulateOptions.isCompiledPlan()
+			&& manipulators.stream().allMatch(ArbitraryManipulator::isReusable);
+		boolean stateless = manipulators.stream().allMatch(ArbitraryManipulator::isStateless);
+
+		return new CompiledArbitraryPlan(
+			() -> traverse(rootProperty, containerInfoManipulators),
+			rootNode -> this.resolveTree(
+				rootProperty,
+				rootNode,
+				manipulators,
+				customizers,
+				containerInfoManipulators,
+				shrinkable
+			),
+			compilable,
+			stateless
+		);
+	}
+
+	/**
+	 * Introspects the given root property to fill the caches of its type and its child properties.
+	 * The arbitrary of the root property is not cached, it is equal only to itself and never retrieved again.
+	 */
+	public void warmUp(RootProperty rootProperty, boolean shrinkable) {
+		ArbitraryNode rootNode = traverser.traverse(rootProperty, Collections.emptyList());
+		ArbitraryTree arbitraryTree = resolveTree(
+			rootProperty,
+			rootNode,
+			Collections.emptyList(),
+			Collections.emptyList(),
+			Collections.emptyList(),
+			shrinkable
+		);
+		arbitraryTree.detach();
+		arbitraryTree.generate();
+	}
+
+	@Nullable
+	public GenerationListener getGenerationListener() {
+		return monkeyContext.getGenerationListener();
+	}
+
+	public UniqueStoreMetrics getUniqueStoreMetrics() {
+		return monkeyContext.getUniqueStoreMetrics();
+	}
+
+	private ArbitraryNode traverse(
+		RootProperty rootProperty,
+		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		return GenerationPhases.measure(
+			monkeyContext.getGenerationListener(),
+			rootProperty.getType(),
+			GenerationPhase.TRAVERSE,
+			() -> this.traverser.traverse(rootProperty, containerInfoManipulators)
+		);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private ArbitraryTree resolveTree(
+		RootProperty rootProperty,
+		ArbitraryNode rootNode,
+		List<ArbitraryManipulator> manipulators,
+		List<MatcherOperator<? extends FixtureCustomizer>> customizers,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		boolean shrinkable
 	) {
 		ArbitraryTree arbitraryTree = new ArbitraryTree(
 			rootProperty,
-			this.traverser.traverse(rootProperty, containerInfoManipulators),
+			rootNode,
 			generateOptions,
 			monkeyContext,
 			customizers
@@ -84,7 +182,7 @@ public final class ArbitraryResolver {
 
 		List<ArbitraryManipulator> registeredManipulators = getRegisteredToManipulators(
 			manipulateOptions,
-			arbitraryTree.getMetadata()
+			arbitraryTree
 		);
 
 		List<ArbitraryManipulator> joinedManipulators =
@@ -95,21 +193,36 @@ public final class ArbitraryResolver {
 			.optimize(joinedManipulators)
 			.getManipulators();
 
-		for (ArbitraryManipulator manipulator : optimizedManipulator) {
-			manipulator.manipulate(arbitraryTree);
-		}
+		GenerationPhases.measure(
+			monkeyContext.getGenerationListener(),
+			rootProperty.getType(),
+			GenerationPhase.MANIPULATE,
+			() -> {
+				for (ArbitraryManipulator manipulator : optimizedManipulator) {
+					manipulator.manipulate(arbitraryTree);
+				}
+				return arbitraryTree;
+			}
+		);
 
-		return arbitraryTree.generate();
+		arbitraryTree.setReusable(registeredManipulators.isEmpty() && !arbitraryTree.hasRandomSizeContainer());
+		arbitraryTree.setRepairable(manipulateOptions.isRepairViolations());
+		arbitraryTree.setShrinkable(shrinkable);
+		return arbitraryTree;
 	}
 
 	private List<ArbitraryManipulator> getRegisteredToManipulators(
 		ManipulateOptions manipulateOptions,
-		ArbitraryTreeMetadata metadata
+		ArbitraryTree arbitraryTree
 	) {
 		List<ArbitraryManipulator> manipulators = new ArrayList<>();
-		Map<Property, List<ArbitraryNode>> nodesByType = metadata.getNodesByProperty();
 		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders =
 			manipulateOptions.getRegisteredArbitraryBuilders();
+		if (registeredArbitraryBuilders.isEmpty()) {
+			return manipulators;
+		}
+
+		Map<Property, List<ArbitraryNode>> nodesByType = arbitraryTree.getMetadata().getNodesByProperty();
 
 		for (Entry<Property, List<ArbitraryNode>> nodeByType : nodesByType.entrySet()) {
 			Property property = nodeByType.getKey();
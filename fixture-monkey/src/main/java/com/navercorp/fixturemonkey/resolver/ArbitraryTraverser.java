@@ -20,15 +20,24 @@ package com.navercorp.fixturemonkey.resolver;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.navercorp.fixturemonkey.api.collection.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.generator.ContainerProperty;
 import com.navercorp.fixturemonkey.api.generator.ContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.ContainerPropertyGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator;
+import com.navercorp.fixturemonkey.api.generator.DefaultObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGeneratorContext;
@@ -36,42 +45,79 @@ import com.navercorp.fixturemonkey.api.generator.SingleValueObjectPropertyGenera
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.AnnotatedTypeKey;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ArbitraryTraverser {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ArbitraryTraverser.class);
+
 	private final GenerateOptions generateOptions;
+	private final ConcurrentLruCache<AnnotatedTypeKey, ObjectPropertyTemplate> templatesByRootType =
+		new ConcurrentLruCache<>(2000);
+	private final Set<Property> truncatedProperties = ConcurrentHashMap.newKeySet();
 
 	public ArbitraryTraverser(GenerateOptions generateOptions) {
 		this.generateOptions = generateOptions;
 	}
 
+	/**
+	 * Traverses the given property, the template of a root property is shared by the root properties of the same
+	 * annotated type traversed by this traverser.
+	 */
 	public ArbitraryNode traverse(
 		Property property,
 		List<ContainerInfoManipulator> containerInfoManipulators
 	) {
-		ContainerPropertyGenerator containerPropertyGenerator =
-			this.generateOptions.getContainerPropertyGenerator(property);
-		boolean container = containerPropertyGenerator != null;
+		AnnotatedTypeKey rootTypeKey = property instanceof RootProperty
+			? new AnnotatedTypeKey(property.getAnnotatedType())
+			: null;
+		ObjectPropertyTemplate template = rootTypeKey != null ? templatesByRootType.get(rootTypeKey) : null;
 
-		ObjectPropertyGenerator objectPropertyGenerator;
-		if (container) {
-			objectPropertyGenerator = SingleValueObjectPropertyGenerator.INSTANCE;
+		ContainerPropertyGenerator containerPropertyGenerator;
+		ObjectProperty objectProperty;
+		boolean deterministic;
+		if (template != null) {
+			containerPropertyGenerator = template.getContainerPropertyGenerator();
+			ObjectProperty templateObjectProperty = template.getObjectProperty();
+			objectProperty = new ObjectProperty(
+				property,
+				templateObjectProperty.getPropertyNameResolver(),
+				templateObjectProperty.getNullInject(),
+				templateObjectProperty.getElementIndex(),
+				templateObjectProperty.getChildProperties()
+			);
+			deterministic = true;
 		} else {
-			objectPropertyGenerator = this.generateOptions.getObjectPropertyGenerator(property);
-		}
+			containerPropertyGenerator = this.generateOptions.getContainerPropertyGenerator(property);
+			boolean container = containerPropertyGenerator != null;
 
-		ObjectProperty objectProperty = objectPropertyGenerator.generate(
-			new ObjectPropertyGeneratorContext(
-				property,
-				null,
-				null,
-				container,
-				this.generateOptions
-			)
-		);
+			ObjectPropertyGenerator objectPropertyGenerator;
+			if (container) {
+				objectPropertyGenerator = SingleValueObjectPropertyGenerator.INSTANCE;
+			} else {
+				objectPropertyGenerator = this.generateOptions.getObjectPropertyGenerator(property);
+			}
+
+			objectProperty = objectPropertyGenerator.generate(
+				new ObjectPropertyGeneratorContext(
+					property,
+					null,
+					null,
+					container,
+					this.generateOptions
+				)
+			);
+
+			deterministic = isDeterministic(objectPropertyGenerator, property);
+			if (rootTypeKey != null && deterministic) {
+				template = new ObjectPropertyTemplate(objectProperty, containerPropertyGenerator);
+				templatesByRootType.put(rootTypeKey, template);
+			}
+		}
 
 		ContainerProperty containerProperty = null;
-		if (container) {
+		if (containerPropertyGenerator != null) {
 			ArbitraryContainerInfo containerInfo = containerInfoManipulators.stream()
 				.filter(it -> it.getNodeResolver().equals(IdentityNodeResolver.INSTANCE))
 				.findFirst()
@@ -95,78 +141,159 @@ public final class ArbitraryTraverser {
 		return this.traverse(
 			arbitraryProperty,
 			new TraverseContext(
-				new ArrayList<>(),
+				arbitraryProperty,
 				containerInfoManipulators
-			)
+			),
+			template,
+			deterministic
 		);
 	}
 
 	private ArbitraryNode traverse(
 		ArbitraryProperty arbitraryProperty,
-		TraverseContext context
+		TraverseContext context,
+		@Nullable ObjectPropertyTemplate template,
+		boolean deterministic
 	) {
 		ObjectProperty objectProperty = arbitraryProperty.getObjectProperty();
 		ContainerProperty containerProperty = arbitraryProperty.getContainerProperty();
 
-		List<ArbitraryNode> children;
+		boolean shareable = deterministic;
 		if (containerProperty != null) {
-			List<Property> elementProperties = containerProperty.getElementProperties();
-			children = generateChildrenNodes(elementProperties, arbitraryProperty, context);
-		} else {
-			List<Property> childProperties = objectProperty.getChildProperties();
-			children = generateChildrenNodes(childProperties, arbitraryProperty, context);
+			ArbitraryContainerInfo containerInfo = containerProperty.getContainerInfo();
+			shareable &= containerInfo != null
+				&& containerInfo.getElementMinSize() == containerInfo.getElementMaxSize();
+		}
+
+		int nodeCount = context.countNode();
+		boolean leaf = containerProperty != null
+			? containerProperty.getElementProperties().isEmpty()
+			: objectProperty.getChildProperties().isEmpty();
+		if (!leaf) {
+			String truncatedReason = null;
+			int recursionDepth = context.getRecursionDepth();
+			if (recursionDepth > generateOptions.getMaxRecursionDepth()) {
+				truncatedReason = "it is nested in its type " + recursionDepth + " times, over maxRecursionDepth "
+					+ generateOptions.getMaxRecursionDepth();
+			} else if (nodeCount > generateOptions.getMaxNodeCount()) {
+				truncatedReason = "over maxNodeCount " + generateOptions.getMaxNodeCount() + " nodes are traversed";
+			}
+
+			if (truncatedReason != null) {
+				warnTruncated(objectProperty.getProperty(), truncatedReason);
+				return ArbitraryNode.truncated(
+					arbitraryProperty,
+					() -> traverseChildren(arbitraryProperty, context, template),
+					shareable
+				);
+			}
+		}
+
+		List<ArbitraryNode> children = traverseChildren(arbitraryProperty, context, template);
+		for (ArbitraryNode child : children) {
+			shareable &= child.isShareable();
 		}
 
 		return new ArbitraryNode(
 			arbitraryProperty,
-			children
+			children,
+			shareable
 		);
 	}
 
+	private List<ArbitraryNode> traverseChildren(
+		ArbitraryProperty arbitraryProperty,
+		TraverseContext context,
+		@Nullable ObjectPropertyTemplate template
+	) {
+		ContainerProperty containerProperty = arbitraryProperty.getContainerProperty();
+		if (containerProperty != null) {
+			List<Property> elementProperties = containerProperty.getElementProperties();
+			return generateChildrenNodes(elementProperties, arbitraryProperty, context, null);
+		}
+
+		List<Property> childProperties = arbitraryProperty.getObjectProperty().getChildProperties();
+		return generateChildrenNodes(childProperties, arbitraryProperty, context, template);
+	}
+
+	/**
+	 * Warns once for each truncated property, a truncated property is generated as {@code null}.
+	 */
+	private void warnTruncated(Property property, String reason) {
+		if (truncatedProperties.add(property)) {
+			String name = property.getName() != null ? "property \"" + property.getName() + "\"" : "element";
+			LOGGER.warn(
+				"Traversing " + name + " of type " + property.getType().getTypeName() + " is truncated since "
+					+ reason + ". It would be generated as null unless it is manipulated."
+			);
+		}
+	}
+
 	private List<ArbitraryNode> generateChildrenNodes(
 		List<Property> properties,
 		ArbitraryProperty parentArbitraryProperty,
-		TraverseContext context
+		TraverseContext context,
+		@Nullable ObjectPropertyTemplate parentTemplate
 	) {
 		List<ArbitraryNode> children = new ArrayList<>();
 		List<ContainerInfoManipulator> containerInfoManipulators = context.getContainerInfoManipulators();
 		boolean container = parentArbitraryProperty.getContainerProperty() != null;
+		boolean elementTemplateAvailable = container && !hasContainerInfoManipulatorUnderElements(context);
+		ArbitraryNode elementTemplate = null;
 
 		for (int sequence = 0; sequence < properties.size(); sequence++) {
 			Property childProperty = properties.get(sequence);
 
-			ContainerPropertyGenerator containerPropertyGenerator =
-				this.generateOptions.getContainerPropertyGenerator(childProperty);
-			boolean childContainer = containerPropertyGenerator != null;
-
-			ObjectPropertyGenerator objectPropertyGenerator;
-			if (childContainer) {
-				objectPropertyGenerator = SingleValueObjectPropertyGenerator.INSTANCE;
-			} else {
-				objectPropertyGenerator = this.generateOptions.getObjectPropertyGenerator(childProperty);
-			}
-
 			int index = sequence;
 			if (parentArbitraryProperty.getObjectProperty().getProperty() instanceof MapEntryElementProperty) {
 				index /= 2;
 			}
 
-			ObjectProperty childObjectProperty = objectPropertyGenerator.generate(
-				new ObjectPropertyGeneratorContext(
-					childProperty,
-					container ? index : null,
-					parentArbitraryProperty,
-					childContainer,
-					this.generateOptions
-				)
-			);
+			ObjectPropertyTemplate childTemplate = parentTemplate != null
+				? parentTemplate.getChildTemplate(sequence)
+				: null;
+
+			ContainerPropertyGenerator containerPropertyGenerator;
+			ObjectProperty childObjectProperty;
+			boolean childDeterministic;
+			if (childTemplate != null) {
+				containerPropertyGenerator = childTemplate.getContainerPropertyGenerator();
+				childObjectProperty = childTemplate.getObjectProperty();
+				childDeterministic = true;
+			} else {
+				containerPropertyGenerator = this.generateOptions.getContainerPropertyGenerator(childProperty);
+				boolean childContainer = containerPropertyGenerator != null;
+
+				ObjectPropertyGenerator objectPropertyGenerator;
+				if (childContainer) {
+					objectPropertyGenerator = SingleValueObjectPropertyGenerator.INSTANCE;
+				} else {
+					objectPropertyGenerator = this.generateOptions.getObjectPropertyGenerator(childProperty);
+				}
+
+				childObjectProperty = objectPropertyGenerator.generate(
+					new ObjectPropertyGeneratorContext(
+						childProperty,
+						container ? index : null,
+						parentArbitraryProperty,
+						childContainer,
+						this.generateOptions
+					)
+				);
+
+				childDeterministic = isDeterministic(objectPropertyGenerator, childProperty);
+				if (parentTemplate != null && childDeterministic) {
+					childTemplate = new ObjectPropertyTemplate(childObjectProperty, containerPropertyGenerator);
+					parentTemplate.setChildTemplate(sequence, childTemplate);
+				}
+			}
 
 			ContainerProperty childContainerProperty = null;
-			if (childContainer) {
+			if (containerPropertyGenerator != null) {
 				ArbitraryContainerInfo containerInfo = null;
 				for (ContainerInfoManipulator containerInfoManipulator : containerInfoManipulators) {
 					if (containerInfoManipulator.isMatch(
-						context.getArbitraryProperties(),
+						context.getArbitraryPropertyPath(),
 						childObjectProperty
 					)) {
 						containerInfo = containerInfoManipulator.getContainerInfo();
@@ -186,12 +313,66 @@ public final class ArbitraryTraverser {
 				childObjectProperty,
 				childContainerProperty
 			);
+
+			boolean elementTemplateChild = elementTemplateAvailable && childContainerProperty == null;
+			if (elementTemplateChild && elementTemplate != null && childObjectProperty.getChildProperties()
+				.equals(elementTemplate.getArbitraryProperty().getObjectProperty().getChildProperties())) {
+				children.add(forkElementTemplate(elementTemplate, childArbitraryProperty));
+				continue;
+			}
+
 			ArbitraryNode childNode = this.traverse(
 				childArbitraryProperty,
-				context.appendArbitraryProperty(childArbitraryProperty)
+				context.appendArbitraryProperty(childArbitraryProperty),
+				childTemplate,
+				childDeterministic
 			);
+			if (elementTemplateChild && elementTemplate == null && childNode.isShareable()) {
+				elementTemplate = childNode;
+				childNode = forkElementTemplate(elementTemplate, childArbitraryProperty);
+			}
 			children.add(childNode);
 		}
 		return children;
 	}
+
+	/**
+	 * Returns an element node sharing the subtree of the template, the subtree is copied if it is manipulated.
+	 * The template is kept out of the tree, it should not be manipulated.
+	 */
+	private static ArbitraryNode forkElementTemplate(
+		ArbitraryNode elementTemplate,
+		ArbitraryProperty elementArbitraryProperty
+	) {
+		ArbitraryNode elementNode = elementTemplate.fork();
+		elementNode.setArbitraryProperty(elementArbitraryProperty);
+		return elementNode;
+	}
+
+	/**
+	 * Returns whether any container under the elements of the container could be sized by a manipulator,
+	 * the subtrees of the elements would differ from each other.
+	 */
+	private static boolean hasContainerInfoManipulatorUnderElements(TraverseContext containerContext) {
+		int elementPathSize = containerContext.getArbitraryPropertyPath().size() + 1;
+		for (ContainerInfoManipulator containerInfoManipulator : containerContext.getContainerInfoManipulators()) {
+			if (containerInfoManipulator.getNextNodePredicateSize() > elementPathSize) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the generators always generate the same {@link ObjectProperty} for the same property.
+	 * Templates are only kept for them.
+	 */
+	private boolean isDeterministic(ObjectPropertyGenerator objectPropertyGenerator, Property property) {
+		if (objectPropertyGenerator != DefaultObjectPropertyGenerator.INSTANCE
+			&& objectPropertyGenerator != SingleValueObjectPropertyGenerator.INSTANCE) {
+			return false;
+		}
+
+		return generateOptions.getNullInjectGenerator(property) instanceof DefaultNullInjectGenerator;
+	}
 }
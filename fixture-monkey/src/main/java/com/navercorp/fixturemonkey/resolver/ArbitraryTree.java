@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -35,22 +36,40 @@ import net.jqwik.api.Arbitrary;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ContainerProperty;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhase;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhases;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.option.GenerateOptions;
+import com.navercorp.fixturemonkey.api.property.MapKeyElementProperty;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.api.unique.PermutedUniqueArbitrary;
+import com.navercorp.fixturemonkey.api.unique.UniqueDomain;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 final class ArbitraryTree {
 	private final RootProperty rootProperty;
 	private final ArbitraryNode rootNode;
 	private final GenerateOptions generateOptions;
-	private final ArbitraryTreeMetadata metadata;
+	@Nullable
+	private ArbitraryTreeMetadata metadata;
 	private final MonkeyContext monkeyContext;
 	@SuppressWarnings("rawtypes")
 	private final List<MatcherOperator<? extends FixtureCustomizer>> customizers;
 
+	private boolean reusable = false;
+
+	private boolean repairable = false;
+
+	private boolean shrinkable = true;
+
+	@Nullable
+	private MonkeyGeneratorContext detachedGeneratorContext;
+
 	@SuppressWarnings("rawtypes")
 	ArbitraryTree(
 		RootProperty rootProperty,
@@ -64,11 +83,15 @@ final class ArbitraryTree {
 		this.generateOptions = generateOptions;
 		this.monkeyContext = monkeyContext;
 		this.customizers = customizers;
-		MetadataCollector metadataCollector = new MetadataCollector(rootNode);
-		this.metadata = metadataCollector.collect();
 	}
 
+	/**
+	 * Collects the metadata at first call, collecting it copies every shared node of the tree.
+	 */
 	public ArbitraryTreeMetadata getMetadata() {
+		if (metadata == null) {
+			metadata = new MetadataCollector(rootNode).collect();
+		}
 		return metadata;
 	}
 
@@ -76,9 +99,85 @@ final class ArbitraryTree {
 		return rootNode;
 	}
 
+	boolean isReusable() {
+		return reusable;
+	}
+
+	void setReusable(boolean reusable) {
+		this.reusable = reusable;
+	}
+
+	void setRepairable(boolean repairable) {
+		this.repairable = repairable;
+	}
+
+	/**
+	 * Sets whether the generated arbitrary shrinks, an arbitrary which does not shrink evaluates each node once.
+	 * Only the nodes whose values would be evaluated again are wrapped, the rest are evaluated by their owners.
+	 */
+	void setShrinkable(boolean shrinkable) {
+		this.shrinkable = shrinkable;
+	}
+
+	/**
+	 * Keeps the arbitrary and the generator context of the root out of the caches of {@link MonkeyContext}.
+	 * A tree of a root property generated only once is detached, they would never be retrieved again.
+	 */
+	void detach() {
+		this.detachedGeneratorContext = monkeyContext.newGeneratorContext();
+	}
+
 	Arbitrary<?> generate() {
-		ArbitraryGeneratorContext context = generateContext(rootNode, customizers, null);
-		return generateArbitrary(context, rootNode);
+		return GenerationPhases.measure(
+			monkeyContext.getGenerationListener(),
+			rootProperty.getType(),
+			GenerationPhase.GENERATE,
+			() -> {
+				ArbitraryGeneratorContext context = generateContext(rootNode, customizers, null);
+				Arbitrary<Object> arbitrary = generateArbitrary(context, null, rootNode);
+				if (repairable) {
+					return new RepairableArbitrary<>(arbitrary, this);
+				}
+				return arbitrary;
+			}
+		);
+	}
+
+	/**
+	 * Generates the arbitrary of the given child of the object node apart from its owner.
+	 */
+	Arbitrary<Object> generateChild(ArbitraryNode parentNode, ArbitraryNode childNode) {
+		ArbitraryGeneratorContext parentContext = generateContext(parentNode, customizers, null);
+		return generateArbitrary(parentContext, parentNode, childNode);
+	}
+
+	/**
+	 * Returns whether any container in this tree would be resized by traversing it again.
+	 * The sizes of such containers are decided per traversal, so the tree could not be reused.
+	 */
+	boolean hasRandomSizeContainer() {
+		return hasRandomSizeContainer(rootNode);
+	}
+
+	private static boolean hasRandomSizeContainer(ArbitraryNode node) {
+		if (node.getArbitrary() != null) {
+			return false;
+		}
+
+		ContainerProperty containerProperty = node.getArbitraryProperty().getContainerProperty();
+		if (containerProperty != null) {
+			ArbitraryContainerInfo containerInfo = containerProperty.getContainerInfo();
+			if (containerInfo != null && containerInfo.getElementMinSize() != containerInfo.getElementMaxSize()) {
+				return true;
+			}
+		}
+
+		for (ArbitraryNode child : node.getReadOnlyChildren()) {
+			if (hasRandomSizeContainer(child)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -89,7 +188,7 @@ final class ArbitraryTree {
 	) {
 		Map<ArbitraryProperty, ArbitraryNode> childNodesByArbitraryProperty = new HashMap<>();
 		List<ArbitraryProperty> childrenProperties = new ArrayList<>();
-		for (ArbitraryNode childNode : arbitraryNode.getChildren()) {
+		for (ArbitraryNode childNode : arbitraryNode.getReadOnlyChildren()) {
 			childNodesByArbitraryProperty.put(childNode.getArbitraryProperty(), childNode);
 			childrenProperties.add(childNode.getArbitraryProperty());
 		}
@@ -97,7 +196,9 @@ final class ArbitraryTree {
 		arbitraryCustomizers.addAll(generateOptions.getArbitraryCustomizers());
 		arbitraryCustomizers.addAll(customizers);
 
-		MonkeyGeneratorContext monkeyGeneratorContext = monkeyContext.retrieveGeneratorContext(rootProperty);
+		MonkeyGeneratorContext monkeyGeneratorContext = detachedGeneratorContext != null
+			? detachedGeneratorContext
+			: monkeyContext.retrieveGeneratorContext(rootProperty);
 		return new ArbitraryGeneratorContext(
 			arbitraryNode.getArbitraryProperty(),
 			childrenProperties,
@@ -108,7 +209,7 @@ final class ArbitraryTree {
 					return Arbitraries.just(null);
 				}
 
-				return generateArbitrary(ctx, node);
+				return generateArbitrary(ctx, arbitraryNode, node);
 			},
 			arbitraryCustomizers,
 			monkeyGeneratorContext
@@ -118,49 +219,113 @@ final class ArbitraryTree {
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private Arbitrary<Object> generateArbitrary(
 		ArbitraryGeneratorContext ctx,
+		@Nullable ArbitraryNode parentNode,
 		ArbitraryNode node
 	) {
 		ArbitraryProperty prop = node.getArbitraryProperty();
+		FixtureCustomizer customizer = ctx.getFixtureCustomizers().stream()
+			.filter(it -> it.match(node.getProperty()))
+			.map(MatcherOperator::getOperator)
+			.findFirst()
+			.orElse(null);
 
 		Arbitrary<?> generated;
 		if (node.getArbitrary() != null) {
 			generated = node.getArbitrary() // fixed
 				.injectNull(node.getArbitraryProperty().getObjectProperty().getNullInject());
+		} else if (node.isTruncated()) {
+			generated = Arbitraries.just(null);
 		} else {
 			ArbitraryGeneratorContext childArbitraryGeneratorContext = this.generateContext(node, customizers, ctx);
+			UniqueDomain<?> uniqueDomain = customizer == null
+				? findPermutableUniqueDomain(ctx, parentNode, node)
+				: null;
 
-			Arbitrary<?> cached = monkeyContext.getCachedArbitrary(node.getProperty());
+			Arbitrary<?> cached = monkeyContext.getCachedArbitrary(node.getProperty(), shrinkable);
 
-			boolean notCustomized = ctx.getFixtureCustomizers().stream()
-				.noneMatch(it -> it.match(node.getProperty()));
+			boolean notCustomized = customizer == null;
 
-			if (node.isNotManipulated() && notCustomized && cached != null) {
+			if (uniqueDomain != null) {
+				generated = new PermutedUniqueArbitrary<>(
+					random -> ctx.nextUnique(ctx.getPathProperty(), uniqueDomain, random)
+				);
+			} else if (node.isNotManipulated() && notCustomized && cached != null) {
 				generated = cached;
 			} else {
-				generated = this.generateOptions.getArbitraryGenerator(prop.getObjectProperty().getProperty())
-					.generate(childArbitraryGeneratorContext);
+				generated = GenerationPhases.measure(
+					monkeyContext.getGenerationListener(),
+					rootProperty.getType(),
+					GenerationPhase.INTROSPECT,
+					() -> this.generateOptions.getArbitraryGenerator(prop.getObjectProperty().getProperty())
+						.generate(childArbitraryGeneratorContext)
+				);
 
-				if (node.isNotManipulated() && notCustomized) {
+				boolean detachedRoot = detachedGeneratorContext != null && node == rootNode;
+				if (node.isNotManipulated() && notCustomized && !detachedRoot) {
 					monkeyContext.putCachedArbitrary(
 						node.getProperty(),
-						generated
+						generated,
+						shrinkable
 					);
 				}
 			}
 		}
 
+		// a value is evaluated once where it would be evaluated again, by a filter, its customizer or the caller
+		boolean unshrinkable = !shrinkable && !(generated instanceof PermutedUniqueArbitrary);
 		List<Predicate> arbitraryFilters = node.getArbitraryFilters();
+		if (unshrinkable && !arbitraryFilters.isEmpty()) {
+			generated = new UnshrinkableArbitrary<>(generated);
+		}
 		for (Predicate predicate : arbitraryFilters) {
 			generated = generated.filter(predicate);
 		}
 
-		return generated.map(
-			object -> ctx.getFixtureCustomizers().stream()
-				.filter(it -> it.match(node.getProperty()))
-				.map(MatcherOperator::getOperator)
-				.findFirst()
-				.map(it -> it.customizeFixture(object))
-				.orElse(object)
-		);
+		if (customizer != null) {
+			generated = generated.map(customizer::customizeFixture);
+		}
+
+		// a set value is left as it is, unique filters of map keys and set elements skip a fixed value
+		boolean fixed = node.getArbitrary() != null && arbitraryFilters.isEmpty() && customizer == null;
+		if (unshrinkable && (node == rootNode || customizer != null || (!fixed && isUniqueFiltered(ctx, node)))) {
+			generated = new UnshrinkableArbitrary<>(generated);
+		}
+		return (Arbitrary<Object>)generated;
+	}
+
+	/**
+	 * Returns whether the value of the node is checked to be unique by the introspector of its owner,
+	 * an element of a set or a key of a map.
+	 */
+	private static boolean isUniqueFiltered(ArbitraryGeneratorContext ctx, ArbitraryNode node) {
+		return Set.class.isAssignableFrom(Types.getActualType(ctx.getType()))
+			|| node.getProperty() instanceof MapKeyElementProperty;
+	}
+
+	/**
+	 * Returns the domain of an element of a set if it could be drawn from a permutation of the domain.
+	 * Every element of the set should be generated by default, neither manipulated nor constrained by annotations.
+	 * Values drawn from a permutation are not checked against the manipulated elements, they could collide.
+	 */
+	@Nullable
+	private UniqueDomain<?> findPermutableUniqueDomain(
+		ArbitraryGeneratorContext ctx,
+		@Nullable ArbitraryNode parentNode,
+		ArbitraryNode node
+	) {
+		if (!monkeyContext.getUniqueStoreOptions().isPermuteUniqueDomains()
+			|| parentNode == null
+			|| !Set.class.isAssignableFrom(Types.getActualType(ctx.getType()))
+			|| node.getArbitraryProperty().getObjectProperty().getNullInject() != 0.0d
+			|| !node.getProperty().getAnnotations().isEmpty()) {
+			return null;
+		}
+
+		for (ArbitraryNode elementNode : parentNode.getReadOnlyChildren()) {
+			if (!elementNode.isNotManipulated() || !elementNode.getArbitraryFilters().isEmpty()) {
+				return null;
+			}
+		}
+		return UniqueDomain.from(Types.getActualType(node.getProperty().getType()));
 	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+
+/**
+ * Keeps the arbitrary generated from a resolved {@link ArbitraryTree} if the tree is reusable.
+ * Only the first sample pays for traversal and manipulation, the rest samples the same arbitrary without locking.
+ * A plan which is not reusable, such as one with a container of random size, is resolved for each sample
+ * concurrently. Only a plan manipulated by lazy values or limited counts is resolved one sample at a time,
+ * since those manipulators keep their state between samples.
+ * If the traversed tree is shareable, it is traversed once and each resolution manipulates a fork of it.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+final class CompiledArbitraryPlan implements Supplier<Arbitrary<?>> {
+	private final Supplier<ArbitraryNode> traverse;
+	private final Function<ArbitraryNode, ArbitraryTree> resolveTree;
+	private final boolean compilable;
+	private final boolean stateless;
+	private final Object resolveLock = new Object();
+
+	@Nullable
+	private volatile ArbitraryNode baseRootNode;
+
+	private volatile boolean traversedEach = false;
+
+	@Nullable
+	private volatile Arbitrary<?> compiled;
+
+	CompiledArbitraryPlan(
+		Supplier<ArbitraryNode> traverse,
+		Function<ArbitraryNode, ArbitraryTree> resolveTree,
+		boolean compilable,
+		boolean stateless
+	) {
+		this.traverse = traverse;
+		this.resolveTree = resolveTree;
+		this.compilable = compilable;
+		this.stateless = stateless;
+	}
+
+	@Override
+	public Arbitrary<?> get() {
+		Arbitrary<?> arbitrary = this.compiled;
+		if (arbitrary != null) {
+			return arbitrary;
+		}
+
+		if (stateless) {
+			return resolve();
+		}
+
+		synchronized (resolveLock) {
+			return resolve();
+		}
+	}
+
+	private Arbitrary<?> resolve() {
+		ArbitraryTree arbitraryTree = resolveTree.apply(retrieveRootNode());
+		Arbitrary<?> arbitrary = arbitraryTree.generate();
+		if (compilable && arbitraryTree.isReusable()) {
+			this.compiled = arbitrary;
+		}
+		return arbitrary;
+	}
+
+	private ArbitraryNode retrieveRootNode() {
+		if (traversedEach) {
+			return traverse.get();
+		}
+
+		ArbitraryNode baseRootNode = this.baseRootNode;
+		if (baseRootNode == null) {
+			synchronized (this) {
+				baseRootNode = this.baseRootNode;
+				if (baseRootNode == null) {
+					if (traversedEach) {
+						return traverse.get();
+					}
+
+					ArbitraryNode rootNode = traverse.get();
+					if (!rootNode.isShareable()) {
+						this.traversedEach = true;
+						return rootNode;
+					}
+					baseRootNode = rootNode;
+					this.baseRootNode = baseRootNode;
+				}
+			}
+		}
+		return baseRootNode.fork();
+	}
+}
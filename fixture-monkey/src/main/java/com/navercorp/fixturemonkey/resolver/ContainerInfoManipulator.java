@@ -30,10 +30,12 @@ import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class ContainerInfoManipulator {
 	private final NodeResolver nodeResolver;
+	private final List<NextNodePredicate> nextNodePredicates;
 	private ArbitraryContainerInfo containerInfo;
 
 	public ContainerInfoManipulator(NodeResolver nodeResolver, ArbitraryContainerInfo containerInfo) {
 		this.nodeResolver = nodeResolver;
+		this.nextNodePredicates = nodeResolver.toNextNodePredicate();
 		this.containerInfo = containerInfo;
 	}
 
@@ -45,6 +47,13 @@ public final class ContainerInfoManipulator {
 		return containerInfo;
 	}
 
+	/**
+	 * Returns the length of the path of the containers this manipulator could match.
+	 */
+	int getNextNodePredicateSize() {
+		return nextNodePredicates.size();
+	}
+
 	public void fixed() {
 		int fixedSize = this.containerInfo.getRandomSize();
 
@@ -59,36 +68,36 @@ public final class ContainerInfoManipulator {
 		List<ArbitraryProperty> parentArbitraryProperties,
 		ObjectProperty currentObjectProperty
 	) {
-		List<NextNodePredicate> nextNodePredicates = nodeResolver.toNextNodePredicate();
-		int parentArbitraryPropertySize = parentArbitraryProperties.size();
-		int nextNodePredicateSize = nextNodePredicates.size();
+		return isMatch(ArbitraryPropertyPath.of(parentArbitraryProperties), currentObjectProperty);
+	}
 
-		if (parentArbitraryPropertySize + 1 != nextNodePredicateSize) {
+	/**
+	 * Matches the path from the current property to the first one, a path of another length is not walked.
+	 */
+	boolean isMatch(ArbitraryPropertyPath parentPath, ObjectProperty currentObjectProperty) {
+		int nextNodePredicateSize = nextNodePredicates.size();
+		if (parentPath.size() + 1 != nextNodePredicateSize) {
 			return false;
 		}
 
-		for (int i = 0; i < parentArbitraryPropertySize; i++) {
-			NextNodePredicate nextNodePredicate = nextNodePredicates.get(i);
-			ArbitraryProperty parentArbitraryProperty = i == 0 ? null : parentArbitraryProperties.get(i - 1);
-			ArbitraryProperty currentArbitraryProperty = parentArbitraryProperties.get(i);
+		NextNodePredicate nextNodePredicate = nextNodePredicates.get(nextNodePredicateSize - 1);
+		if (!nextNodePredicate.test(parentPath.getLastArbitraryProperty(), currentObjectProperty, null)) {
+			return false;
+		}
 
-			if (!nextNodePredicate.test(
-				parentArbitraryProperty,
+		ArbitraryPropertyPath path = parentPath;
+		for (int i = parentPath.size() - 1; i >= 0; i--) {
+			ArbitraryPropertyPath ownerPath = path.getParentPath();
+			ArbitraryProperty currentArbitraryProperty = path.getLastArbitraryProperty();
+			if (!nextNodePredicates.get(i).test(
+				ownerPath.getLastArbitraryProperty(),
 				currentArbitraryProperty.getObjectProperty(),
 				currentArbitraryProperty.getContainerProperty()
 			)) {
 				return false;
 			}
+			path = ownerPath;
 		}
-
-		ArbitraryProperty parentArbitraryProperty = parentArbitraryPropertySize == 0
-			? null
-			: parentArbitraryProperties.get(parentArbitraryPropertySize - 1);
-		NextNodePredicate nextNodePredicate = nextNodePredicates.get(nextNodePredicateSize - 1);
-		return nextNodePredicate.test(
-			parentArbitraryProperty,
-			currentObjectProperty,
-			null
-		);
+		return true;
 	}
 }
@@ -19,6 +19,7 @@
 package com.navercorp.fixturemonkey.resolver;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -33,25 +34,62 @@ import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
 public final class ManipulateOptions {
 	private final MonkeyExpressionFactory defaultMonkeyExpressionFactory;
 
-	private final List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders;
+	private final Supplier<List<MatcherOperator<? extends ArbitraryBuilder<?>>>> registeredArbitraryBuilders;
 	private final DecomposedContainerValueFactory decomposedContainerValueFactory;
 
 	private final List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers;
 
 	private final PropertyNameResolver defaultPropertyNameResolver;
 
+	private final boolean compiledPlan;
+
+	private final boolean repairViolations;
+
+	private final boolean shrinkSamples;
+
 	public ManipulateOptions(
 		MonkeyExpressionFactory defaultMonkeyExpressionFactory,
 		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders,
 		DecomposedContainerValueFactory decomposedContainerValueFactory,
 		List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers,
-		PropertyNameResolver defaultPropertyNameResolver
+		PropertyNameResolver defaultPropertyNameResolver,
+		boolean compiledPlan,
+		boolean repairViolations,
+		boolean shrinkSamples
+	) {
+		this(
+			defaultMonkeyExpressionFactory,
+			() -> registeredArbitraryBuilders,
+			decomposedContainerValueFactory,
+			propertyNameResolvers,
+			defaultPropertyNameResolver,
+			compiledPlan,
+			repairViolations,
+			shrinkSamples
+		);
+	}
+
+	/**
+	 * The registered builders are supplied lazily, they are created by the LabMonkey built with the options.
+	 */
+	public ManipulateOptions(
+		MonkeyExpressionFactory defaultMonkeyExpressionFactory,
+		Supplier<List<MatcherOperator<? extends ArbitraryBuilder<?>>>> registeredArbitraryBuilders,
+		DecomposedContainerValueFactory decomposedContainerValueFactory,
+		List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers,
+		PropertyNameResolver defaultPropertyNameResolver,
+		boolean compiledPlan,
+		boolean repairViolations,
+		boolean shrinkSamples
 	) {
 		this.defaultMonkeyExpressionFactory = defaultMonkeyExpressionFactory;
 		this.registeredArbitraryBuilders = registeredArbitraryBuilders;
 		this.decomposedContainerValueFactory = decomposedContainerValueFactory;
 		this.propertyNameResolvers = propertyNameResolvers;
 		this.defaultPropertyNameResolver = defaultPropertyNameResolver;
+		this.compiledPlan = compiledPlan;
+		this.repairViolations = repairViolations;
+		this.shrinkSamples = shrinkSamples;
 	}
 
 	public MonkeyExpressionFactory getDefaultMonkeyExpressionFactory() {
@@ -59,7 +97,7 @@ public final class ManipulateOptions {
 	}
 
 	public List<MatcherOperator<? extends ArbitraryBuilder<?>>> getRegisteredArbitraryBuilders() {
-		return registeredArbitraryBuilders;
+		return registeredArbitraryBuilders.get();
 	}
 
 	public DecomposedContainerValueFactory getDecomposedContainerValueFactory() {
@@ -74,6 +112,18 @@ public final class ManipulateOptions {
 			.orElse(this.defaultPropertyNameResolver);
 	}
 
+	public boolean isCompiledPlan() {
+		return compiledPlan;
+	}
+
+	public boolean isRepairViolations() {
+		return repairViolations;
+	}
+
+	public boolean isShrinkSamples() {
+		return shrinkSamples;
+	}
+
 	public static ManipulateOptionsBuilder builder() {
 		return new ManipulateOptionsBuilder();
 	}
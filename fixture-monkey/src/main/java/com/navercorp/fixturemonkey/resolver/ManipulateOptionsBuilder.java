@@ -19,6 +19,7 @@
 package com.navercorp.fixturemonkey.resolver;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -42,11 +43,15 @@ public final class ManipulateOptionsBuilder {
 
 	private boolean expressionStrictMode = false;
 
+	private boolean compiledPlan = true;
+
+	private boolean repairViolations = false;
+
+	private boolean shrinkSamples = false;
+
 	private List<MatcherOperator<Function<LabMonkey, ? extends ArbitraryBuilder<?>>>>
 		registeredArbitraryBuilders = new ArrayList<>();
 
-	private List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredSampledArbitraryBuilders = new ArrayList<>();
-
 	private DecomposedContainerValueFactory additionalDecomposedContainerValueFactory = null;
 
 	private List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers;
@@ -61,6 +66,21 @@ public final class ManipulateOptionsBuilder {
 		return this;
 	}
 
+	public ManipulateOptionsBuilder compiledPlan(boolean compiledPlan) {
+		this.compiledPlan = compiledPlan;
+		return this;
+	}
+
+	public ManipulateOptionsBuilder repairViolations(boolean repairViolations) {
+		this.repairViolations = repairViolations;
+		return this;
+	}
+
+	public ManipulateOptionsBuilder shrinkSamples(boolean shrinkSamples) {
+		this.shrinkSamples = shrinkSamples;
+		return this;
+	}
+
 	public ManipulateOptionsBuilder monkeyExpressionFactory(MonkeyExpressionFactory monkeyExpressionFactory) {
 		this.defaultMonkeyExpressionFactory = monkeyExpressionFactory;
 		return this;
@@ -93,6 +113,16 @@ public final class ManipulateOptionsBuilder {
 	}
 
 	public ManipulateOptions build() {
+		return build(Collections::emptyList);
+	}
+
+	/**
+	 * The registered builders are supplied after the options are built,
+	 * they are created by {@link #sampleRegisteredArbitraryBuilders(LabMonkey)} of the {@link LabMonkey} using them.
+	 */
+	public ManipulateOptions build(
+		Supplier<List<MatcherOperator<? extends ArbitraryBuilder<?>>>> registeredArbitraryBuilders
+	) {
 		defaultMonkeyExpressionFactory = defaultIfNull(
 			this.defaultMonkeyExpressionFactory,
 			ArbitraryExpressionFactory::new
@@ -110,23 +140,28 @@ public final class ManipulateOptionsBuilder {
 
 		return new ManipulateOptions(
 			defaultMonkeyExpressionFactory,
-			registeredSampledArbitraryBuilders,
+			registeredArbitraryBuilders,
 			decomposedContainerValueFactory,
 			propertyNameResolvers,
-			defaultPropertyNameResolver
+			defaultPropertyNameResolver,
+			compiledPlan,
+			repairViolations,
+			shrinkSamples
 		);
 	}
 
-	public void sampleRegisteredArbitraryBuilder(LabMonkey labMonkey) {
+	public List<MatcherOperator<? extends ArbitraryBuilder<?>>> sampleRegisteredArbitraryBuilders(LabMonkey labMonkey) {
+		List<MatcherOperator<? extends ArbitraryBuilder<?>>> sampledArbitraryBuilders = new ArrayList<>();
 		for (MatcherOperator<Function<LabMonkey, ? extends ArbitraryBuilder<?>>> registeredArbitraryBuilder
 			: registeredArbitraryBuilders) {
-			registeredSampledArbitraryBuilders.add(
+			sampledArbitraryBuilders.add(
 				new MatcherOperator<>(
 					registeredArbitraryBuilder.getMatcher(),
 					registeredArbitraryBuilder.getOperator().apply(labMonkey)
 				)
 			);
 		}
+		return Collections.unmodifiableList(sampledArbitraryBuilders);
 	}
 
 	private static <T> T defaultIfNull(@Nullable T obj, Supplier<T> defaultValue) {
@@ -50,9 +50,11 @@ final class MetadataCollector {
 	private void collect(ArbitraryNode node) {
 		Property property = node.getArbitraryProperty().getObjectProperty().getProperty();
 
-		List<ArbitraryNode> children = node.getChildren();
-		for (ArbitraryNode child : children) {
-			collect(child);
+		if (!node.isTruncated()) {
+			List<ArbitraryNode> children = node.getChildren();
+			for (ArbitraryNode child : children) {
+				collect(child);
+			}
 		}
 
 		List<ArbitraryNode> list = Collections.singletonList(node);
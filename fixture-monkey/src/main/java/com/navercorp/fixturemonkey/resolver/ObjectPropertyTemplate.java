@@ -0,0 +1,76 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.generator.ContainerPropertyGenerator;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+
+/**
+ * An immutable {@link ObjectProperty} shared between the trees traversed from the same root property.
+ * It only keeps the result of deterministic generators, a container property is generated for each traversal.
+ * Child templates are kept for child properties of an object, elements of a container are not kept.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+final class ObjectPropertyTemplate {
+	private final ObjectProperty objectProperty;
+	@Nullable
+	private final ContainerPropertyGenerator containerPropertyGenerator;
+	private final AtomicReferenceArray<ObjectPropertyTemplate> childTemplates;
+
+	ObjectPropertyTemplate(
+		ObjectProperty objectProperty,
+		@Nullable ContainerPropertyGenerator containerPropertyGenerator
+	) {
+		this.objectProperty = objectProperty;
+		this.containerPropertyGenerator = containerPropertyGenerator;
+		this.childTemplates = new AtomicReferenceArray<>(
+			containerPropertyGenerator == null ? objectProperty.getChildProperties().size() : 0
+		);
+	}
+
+	ObjectProperty getObjectProperty() {
+		return objectProperty;
+	}
+
+	@Nullable
+	ContainerPropertyGenerator getContainerPropertyGenerator() {
+		return containerPropertyGenerator;
+	}
+
+	@Nullable
+	ObjectPropertyTemplate getChildTemplate(int sequence) {
+		if (sequence >= childTemplates.length()) {
+			return null;
+		}
+		return childTemplates.get(sequence);
+	}
+
+	void setChildTemplate(int sequence, ObjectPropertyTemplate childTemplate) {
+		if (sequence < childTemplates.length()) {
+			childTemplates.compareAndSet(sequence, null, childTemplate);
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.EdgeCases;
+import net.jqwik.api.RandomGenerator;
+
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * An arbitrary of a resolved {@link ArbitraryTree} which could regenerate a single property of what it sampled.
+ * A property is found by its path from the root, it is regenerated by the generator of the node at the path.
+ * A property which is manipulated or is in a manipulated value is not regenerated, it is left as it is set.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+public final class RepairableArbitrary<T> implements Arbitrary<T> {
+	private static final int GEN_SIZE = 1000;
+
+	private final Arbitrary<T> delegate;
+	private final ArbitraryTree arbitraryTree;
+	private final Map<ArbitraryNode, RandomGenerator<Object>> generatorsByNode = new ConcurrentHashMap<>();
+
+	RepairableArbitrary(Arbitrary<T> delegate, ArbitraryTree arbitraryTree) {
+		this.delegate = delegate;
+		this.arbitraryTree = arbitraryTree;
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		return delegate.generator(genSize);
+	}
+
+	@Override
+	public EdgeCases<T> edgeCases(int maxEdgeCases) {
+		return delegate.edgeCases(maxEdgeCases);
+	}
+
+	@Override
+	public boolean isGeneratorMemoizable() {
+		return delegate.isGeneratorMemoizable();
+	}
+
+	/**
+	 * Returns the generator of the property at the given path from the root,
+	 * {@code null} if it is not found or it should not be regenerated since it is manipulated.
+	 */
+	@Nullable
+	public RandomGenerator<Object> findPropertyGenerator(List<PropertyPathElement> propertyPath) {
+		ArbitraryNode parentNode = null;
+		ArbitraryNode node = arbitraryTree.findRoot();
+		for (PropertyPathElement pathElement : propertyPath) {
+			if (pathElement.isInContainer()) {
+				node = findElementNode(node, pathElement.getIndex());
+				if (node == null) {
+					return null;
+				}
+			}
+			if (node.getArbitrary() != null) {
+				return null;
+			}
+
+			parentNode = node;
+			node = findChildNode(node, pathElement.getName());
+			if (node == null) {
+				return null;
+			}
+		}
+
+		if (parentNode == null || isManipulated(node)) {
+			return null;
+		}
+
+		ArbitraryNode ownerNode = parentNode;
+		return generatorsByNode.computeIfAbsent(
+			node,
+			it -> arbitraryTree.generateChild(ownerNode, it).generator(GEN_SIZE)
+		);
+	}
+
+	@Nullable
+	private static ArbitraryNode findChildNode(ArbitraryNode parentNode, String name) {
+		if (parentNode.getArbitraryProperty().getContainerProperty() != null) {
+			return null;
+		}
+
+		for (ArbitraryNode child : parentNode.getReadOnlyChildren()) {
+			if (name.equals(child.getProperty().getName())) {
+				return child;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the node of the element of the container node.
+	 * An element of a list or an array is found by its index. The elements of the other containers,
+	 * such as a set or the values of a map, are found only if none of them is manipulated, they are generated alike.
+	 */
+	@Nullable
+	private static ArbitraryNode findElementNode(ArbitraryNode containerNode, @Nullable Integer index) {
+		if (containerNode.getArbitraryProperty().getContainerProperty() == null) {
+			return null;
+		}
+
+		List<ArbitraryNode> elementNodes = containerNode.getReadOnlyChildren();
+		Class<?> containerType = Types.getActualType(containerNode.getProperty().getType());
+		if (List.class.isAssignableFrom(containerType) || containerType.isArray()) {
+			return index != null && index < elementNodes.size() ? elementNodes.get(index) : null;
+		}
+
+		for (ArbitraryNode elementNode : elementNodes) {
+			if (isManipulated(elementNode)) {
+				return null;
+			}
+		}
+		if (elementNodes.isEmpty()) {
+			return null;
+		}
+
+		ArbitraryNode elementNode = elementNodes.get(0);
+		if (Map.class.isAssignableFrom(containerType)) {
+			List<ArbitraryNode> entryNodes = elementNode.getReadOnlyChildren();
+			return entryNodes.size() == 2 ? entryNodes.get(1) : null;
+		}
+		return elementNode;
+	}
+
+	private static boolean isManipulated(ArbitraryNode node) {
+		if (!node.isNotManipulated() || node.getArbitrary() != null || !node.getArbitraryFilters().isEmpty()) {
+			return true;
+		}
+
+		for (ArbitraryNode child : node.getReadOnlyChildren()) {
+			if (isManipulated(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A property in the path of a property, {@code inContainer} is whether it is a property of an element
+	 * of the container of the previous property, the element is found by {@code index} if it is indexed.
+	 */
+	public static final class PropertyPathElement {
+		private final String name;
+		private final boolean inContainer;
+		@Nullable
+		private final Integer index;
+
+		public PropertyPathElement(String name, boolean inContainer, @Nullable Integer index) {
+			this.name = name;
+			this.inContainer = inContainer;
+			this.index = index;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isInContainer() {
+			return inContainer;
+		}
+
+		@Nullable
+		public Integer getIndex() {
+			return index;
+		}
+	}
+}
@@ -18,29 +18,60 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
-import java.util.ArrayList;
+import java.lang.reflect.Type;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 
+/**
+ * The path traversed to a node, appending a property to the path takes constant time.
+ * The count of traversed nodes is shared by every path traversed from the same root.
+ * The counts of traversed objects by type are linked to the ones of the parent, counting an object takes constant time.
+ */
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 final class TraverseContext {
-	private final List<ArbitraryProperty> arbitraryProperties;
+	private final ArbitraryPropertyPath arbitraryPropertyPath;
 	private final List<ContainerInfoManipulator> containerInfoManipulators;
+	private final AtomicInteger nodeCount;
+	@Nullable
+	private final ObjectCount objectCount;
+	private final int recursionDepth;
 
 	public TraverseContext(
-		List<ArbitraryProperty> arbitraryProperties,
+		ArbitraryProperty rootArbitraryProperty,
 		List<ContainerInfoManipulator> containerInfoManipulators
 	) {
-		this.arbitraryProperties = arbitraryProperties;
+		this(
+			ArbitraryPropertyPath.EMPTY,
+			containerInfoManipulators,
+			new AtomicInteger(),
+			countObject(null, rootArbitraryProperty, 0),
+			0
+		);
+	}
+
+	private TraverseContext(
+		ArbitraryPropertyPath arbitraryPropertyPath,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		AtomicInteger nodeCount,
+		@Nullable ObjectCount objectCount,
+		int recursionDepth
+	) {
+		this.arbitraryPropertyPath = arbitraryPropertyPath;
 		this.containerInfoManipulators = containerInfoManipulators;
+		this.nodeCount = nodeCount;
+		this.objectCount = objectCount;
+		this.recursionDepth = recursionDepth;
 	}
 
-	public List<ArbitraryProperty> getArbitraryProperties() {
-		return arbitraryProperties;
+	public ArbitraryPropertyPath getArbitraryPropertyPath() {
+		return arbitraryPropertyPath;
 	}
 
 	public List<ContainerInfoManipulator> getContainerInfoManipulators() {
@@ -50,8 +81,83 @@ final class TraverseContext {
 	public TraverseContext appendArbitraryProperty(
 		ArbitraryProperty arbitraryProperty
 	) {
-		List<ArbitraryProperty> arbitraryProperties = new ArrayList<>(this.arbitraryProperties);
-		arbitraryProperties.add(arbitraryProperty);
-		return new TraverseContext(arbitraryProperties, containerInfoManipulators);
+		int appendedRecursionDepth = 0;
+		if (isObject(arbitraryProperty)) {
+			appendedRecursionDepth = ObjectCount.get(objectCount, getType(arbitraryProperty));
+		}
+
+		return new TraverseContext(
+			arbitraryPropertyPath.append(arbitraryProperty),
+			containerInfoManipulators,
+			nodeCount,
+			countObject(objectCount, arbitraryProperty, appendedRecursionDepth),
+			appendedRecursionDepth
+		);
+	}
+
+	/**
+	 * Returns how many times the type of the last property is nested in the same type, the root included.
+	 * Only objects having child properties are counted, containers are not since nesting them is not recursive.
+	 * Types are compared with their type arguments.
+	 */
+	public int getRecursionDepth() {
+		return recursionDepth;
+	}
+
+	/**
+	 * Counts a traversed node, returns the count of nodes traversed from the root.
+	 */
+	public int countNode() {
+		return nodeCount.incrementAndGet();
+	}
+
+	@Nullable
+	private static ObjectCount countObject(
+		@Nullable ObjectCount objectCount,
+		ArbitraryProperty arbitraryProperty,
+		int countOfType
+	) {
+		if (!isObject(arbitraryProperty)
+			|| arbitraryProperty.getObjectProperty().getChildProperties().isEmpty()) {
+			return objectCount;
+		}
+
+		return new ObjectCount(getType(arbitraryProperty), countOfType + 1, objectCount);
+	}
+
+	private static boolean isObject(ArbitraryProperty arbitraryProperty) {
+		return arbitraryProperty.getContainerProperty() == null;
+	}
+
+	private static Type getType(ArbitraryProperty arbitraryProperty) {
+		return arbitraryProperty.getObjectProperty().getProperty().getType();
+	}
+
+	/**
+	 * The count of the objects of a type on the path, the nearest one of the type has the count of it.
+	 */
+	private static final class ObjectCount {
+		private final Type type;
+		private final int count;
+		@Nullable
+		private final ObjectCount parent;
+
+		private ObjectCount(Type type, int count, @Nullable ObjectCount parent) {
+			this.type = type;
+			this.count = count;
+			this.parent = parent;
+		}
+
+		/**
+		 * Walks the counted ancestors up to the nearest one of given type.
+		 */
+		private static int get(@Nullable ObjectCount objectCount, Type type) {
+			for (ObjectCount current = objectCount; current != null; current = current.parent) {
+				if (current.type.equals(type)) {
+					return current.count;
+				}
+			}
+			return 0;
+		}
 	}
 }
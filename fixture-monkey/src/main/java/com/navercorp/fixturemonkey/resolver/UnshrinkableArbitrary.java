@@ -0,0 +1,62 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.EdgeCases;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.api.Shrinkable;
+
+/**
+ * Evaluates the value of the delegate once as soon as it is generated and drops its shrinkable.
+ * A shrinkable of jqwik evaluates its value again on each call, so would do every filter and owner of it.
+ */
+@API(since = "0.4.7", status = Status.EXPERIMENTAL)
+final class UnshrinkableArbitrary<T> implements Arbitrary<T> {
+	private final Arbitrary<T> delegate;
+
+	UnshrinkableArbitrary(Arbitrary<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		RandomGenerator<T> generator = delegate.generator(genSize);
+		return random -> Shrinkable.unshrinkable(generator.next(random).value());
+	}
+
+	@Override
+	public RandomGenerator<T> generatorWithEmbeddedEdgeCases(int genSize) {
+		RandomGenerator<T> generator = delegate.generatorWithEmbeddedEdgeCases(genSize);
+		return random -> Shrinkable.unshrinkable(generator.next(random).value());
+	}
+
+	@Override
+	public EdgeCases<T> edgeCases(int maxEdgeCases) {
+		return delegate.edgeCases(maxEdgeCases);
+	}
+
+	@Override
+	public boolean isGeneratorMemoizable() {
+		return delegate.isGeneratorMemoizable();
+	}
+}
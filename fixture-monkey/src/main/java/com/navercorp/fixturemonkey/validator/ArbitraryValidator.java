@@ -21,4 +21,9 @@ package com.navercorp.fixturemonkey.validator;
 public interface ArbitraryValidator {
 	// if arbitrary is not valid throw exception then re-create arbitrary for valid.
 	void validate(Object arbitrary);
+
+	// validates only the given property of the owner, the whole owner is validated if not overridden.
+	default void validateProperty(Object owner, String propertyName) {
+		validate(owner);
+	}
 }
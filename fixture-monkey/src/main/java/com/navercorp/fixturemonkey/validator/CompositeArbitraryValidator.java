@@ -48,4 +48,14 @@ public final class CompositeArbitraryValidator implements ArbitraryValidator {
 
 		this.defaultValidator.validate(arbitrary);
 	}
+
+	@Override
+	public void validateProperty(Object owner, String propertyName) {
+		ArbitraryValidator validator = this.validators.get(owner.getClass());
+		if (validator != null) {
+			validator.validateProperty(owner, propertyName);
+		}
+
+		this.defaultValidator.validateProperty(owner, propertyName);
+	}
 }
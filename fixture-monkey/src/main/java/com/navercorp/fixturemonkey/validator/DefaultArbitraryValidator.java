@@ -46,4 +46,18 @@ public final class DefaultArbitraryValidator implements ArbitraryValidator {
 			}
 		}
 	}
+
+	@Override
+	public void validateProperty(Object owner, String propertyName) {
+		if (this.validator != null) {
+			Set<ConstraintViolation<Object>> violations = this.validator.validateProperty(owner, propertyName);
+			if (!violations.isEmpty()) {
+				throw new ConstraintViolationException(
+					"DefaultArbitrayValidator ConstraintViolations. type: " + owner.getClass()
+						+ " property: " + propertyName,
+					violations
+				);
+			}
+		}
+	}
 }
@@ -0,0 +1,54 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Collections;
+
+import net.jqwik.api.Property;
+
+import lombok.Data;
+
+import com.navercorp.fixturemonkey.api.option.GenerateOptions;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class ArbitraryTraverserTest {
+	@Property(tries = 1)
+	void shareTemplateBetweenRootPropertiesOfSameType() {
+		ArbitraryTraverser sut = new ArbitraryTraverser(GenerateOptions.builder().build());
+		RootProperty first = new RootProperty(new TypeReference<Sample>() {
+		}.getAnnotatedType());
+		RootProperty second = new RootProperty(new TypeReference<Sample>() {
+		}.getAnnotatedType());
+
+		ArbitraryNode firstNode = sut.traverse(first, Collections.emptyList());
+		ArbitraryNode secondNode = sut.traverse(second, Collections.emptyList());
+
+		then(secondNode.getProperty()).isSameAs(second);
+		then(secondNode.getReadOnlyChildren().get(0).getArbitraryProperty().getObjectProperty())
+			.isSameAs(firstNode.getReadOnlyChildren().get(0).getArbitraryProperty().getObjectProperty());
+	}
+
+	@Data
+	public static class Sample {
+		private String value;
+	}
+}
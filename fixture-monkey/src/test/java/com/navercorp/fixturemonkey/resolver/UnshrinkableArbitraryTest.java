@@ -0,0 +1,54 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Property;
+import net.jqwik.api.Shrinkable;
+
+class UnshrinkableArbitraryTest {
+	@Property
+	void generateUnshrinkable() {
+		UnshrinkableArbitrary<Integer> sut = new UnshrinkableArbitrary<>(Arbitraries.integers().between(100, 1000));
+
+		Shrinkable<Integer> actual = sut.generator(100).next(new Random());
+
+		then(actual.value()).isBetween(100, 1000);
+		then(actual.shrink()).isEmpty();
+	}
+
+	@Property
+	void evaluateValueOnce() {
+		AtomicInteger evaluated = new AtomicInteger();
+		UnshrinkableArbitrary<Integer> sut = new UnshrinkableArbitrary<>(
+			Arbitraries.integers().map(it -> evaluated.incrementAndGet())
+		);
+
+		Shrinkable<Integer> actual = sut.generator(100).next(new Random());
+		actual.value();
+		actual.value();
+
+		then(evaluated).hasValue(1);
+	}
+}
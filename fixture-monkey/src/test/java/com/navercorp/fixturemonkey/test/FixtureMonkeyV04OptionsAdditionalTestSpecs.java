@@ -21,8 +21,12 @@ package com.navercorp.fixturemonkey.test;
 
 import java.lang.reflect.AnnotatedType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import javax.validation.Valid;
+import javax.validation.constraints.PositiveOrZero;
+
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
 import net.jqwik.api.Builders.BuilderCombinator;
@@ -183,4 +187,90 @@ class FixtureMonkeyV04OptionsAdditionalTestSpecs {
 			}
 		}
 	}
+
+	@Getter
+	public static class TwoBuilderMethodsInteger {
+		private final int value;
+		private final String builderMethodName;
+
+		private TwoBuilderMethodsInteger(int value, String builderMethodName) {
+			this.value = value;
+			this.builderMethodName = builderMethodName;
+		}
+
+		public static TwoBuilderMethodsIntegerBuilder builder() {
+			return new TwoBuilderMethodsIntegerBuilder("builder");
+		}
+
+		public static TwoBuilderMethodsIntegerBuilder otherBuilder() {
+			return new TwoBuilderMethodsIntegerBuilder("otherBuilder");
+		}
+
+		public static class TwoBuilderMethodsIntegerBuilder {
+			private final String builderMethodName;
+			private int value;
+
+			private TwoBuilderMethodsIntegerBuilder(String builderMethodName) {
+				this.builderMethodName = builderMethodName;
+			}
+
+			public TwoBuilderMethodsIntegerBuilder value(int value) {
+				this.value = value;
+				return this;
+			}
+
+			public TwoBuilderMethodsInteger build() {
+				return new TwoBuilderMethodsInteger(value, builderMethodName);
+			}
+		}
+	}
+
+	@Data
+	public static class PositiveIntegers {
+		@PositiveOrZero
+		private int value1;
+		@PositiveOrZero
+		private int value2;
+		@PositiveOrZero
+		private int value3;
+		@PositiveOrZero
+		private int value4;
+		@PositiveOrZero
+		private int value5;
+		@PositiveOrZero
+		private int value6;
+		@PositiveOrZero
+		private int value7;
+		@PositiveOrZero
+		private int value8;
+		private String str;
+
+		public List<Integer> getValues() {
+			return Arrays.asList(value1, value2, value3, value4, value5, value6, value7, value8);
+		}
+	}
+
+	@Data
+	public static class NestedPositiveIntegers {
+		@Valid
+		private List<PositiveIntegers> values;
+	}
+
+	@Data
+	public static class SelfRecursiveObject {
+		private String value;
+		private SelfRecursiveObject recursive;
+		private List<SelfRecursiveObject> children;
+	}
+
+	@Data
+	public static class GenericWrapper<T> {
+		private T value;
+	}
+
+	@Data
+	public static class DeeplyNestedContainerObject {
+		private List<List<List<List<List<String>>>>> values;
+		private GenericWrapper<GenericWrapper<GenericWrapper<GenericWrapper<GenericWrapper<String>>>>> wrapper;
+	}
 }
@@ -26,12 +26,14 @@ import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 import java.lang.reflect.AnnotatedType;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -47,6 +49,11 @@ import net.jqwik.time.api.DateTimes;
 import net.jqwik.time.api.arbitraries.InstantArbitrary;
 
 import com.navercorp.fixturemonkey.LabMonkey;
+import com.navercorp.fixturemonkey.WarmUpReport;
+import com.navercorp.fixturemonkey.api.context.BloomFilterUniqueStore;
+import com.navercorp.fixturemonkey.api.context.ExactUniqueStore;
+import com.navercorp.fixturemonkey.api.context.UniqueStoreMetrics;
+import com.navercorp.fixturemonkey.api.context.UniqueStoreOptions;
 import com.navercorp.fixturemonkey.api.customizer.FixtureCustomizer;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
@@ -61,8 +68,12 @@ import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.ListIntrospector;
+import com.navercorp.fixturemonkey.api.listener.GenerationPhase;
+import com.navercorp.fixturemonkey.api.listener.InMemoryGenerationRecorder;
 import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.option.GenerateOptions;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.resolver.DecomposableContainerValue;
@@ -70,11 +81,16 @@ import com.navercorp.fixturemonkey.resolver.IdentityNodeResolver;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.BuilderInteger;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.CustomBuildMethodInteger;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.CustomBuilderMethodInteger;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.DeeplyNestedContainerObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.NestedPositiveIntegers;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.Pair;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.PairContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.PairIntrospector;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.PositiveIntegers;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.RegisterGroup;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.SelfRecursiveObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.SimpleObjectChild;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04OptionsAdditionalTestSpecs.TwoBuilderMethodsInteger;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.ComplexObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.CustomContainer;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.CustomContainerFieldObject;
@@ -84,7 +100,10 @@ import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.InterfaceImple
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.ListStringObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.NullableObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.SimpleObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.StringPair;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyV04TestSpecs.TwoEnum;
+import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
+import com.navercorp.fixturemonkey.validator.DefaultArbitraryValidator;
 
 class FixtureMonkeyV04OptionsTest {
 	@Property
@@ -715,6 +734,20 @@ class FixtureMonkeyV04OptionsTest {
 		then(actual).isEqualTo("test");
 	}
 
+	@Property
+	void registerBuilderWithManipulators() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.register(SimpleObject.class, monkey -> monkey.giveMeBuilder(SimpleObject.class).set("str", "registered"))
+			.build();
+
+		SimpleObject actual = sut.giveMeBuilder(SimpleObject.class)
+			.set("integer", 1)
+			.sample();
+
+		then(actual.getStr()).isEqualTo("registered");
+		then(actual.getInteger()).isEqualTo(1);
+	}
+
 	@Property
 	void registerGroup() {
 		LabMonkey sut = LabMonkey.labMonkeyBuilder()
@@ -968,6 +1001,46 @@ class FixtureMonkeyV04OptionsTest {
 		then(actual.getValue()).isBetween(Integer.MIN_VALUE, Integer.MAX_VALUE);
 	}
 
+	@Property
+	void generateWithBuilderArbitraryIntrospectorReusingBuilderPlan() {
+		// given
+		BuilderArbitraryIntrospector builderArbitraryIntrospector = new BuilderArbitraryIntrospector();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.pushExactTypeArbitraryIntrospector(TwoBuilderMethodsInteger.class, builderArbitraryIntrospector)
+			.build();
+		sut.giveMeOne(TwoBuilderMethodsInteger.class);
+
+		// when
+		List<TwoBuilderMethodsInteger> actual = sut.giveMeBuilder(TwoBuilderMethodsInteger.class)
+			.set("value", 1)
+			.sampleList(3);
+
+		then(actual).doesNotHaveDuplicates()
+			.allSatisfy(it -> {
+				then(it.getValue()).isEqualTo(1);
+				then(it.getBuilderMethodName()).isEqualTo("builder");
+			});
+	}
+
+	@Property
+	void generateWithBuilderArbitraryIntrospectorBuilderMethodChangedAfterSample() {
+		// given
+		BuilderArbitraryIntrospector builderArbitraryIntrospector = new BuilderArbitraryIntrospector();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.pushExactTypeArbitraryIntrospector(TwoBuilderMethodsInteger.class, builderArbitraryIntrospector)
+			.build();
+		sut.giveMeOne(TwoBuilderMethodsInteger.class);
+		builderArbitraryIntrospector.setBuilderMethodName(TwoBuilderMethodsInteger.class, "otherBuilder");
+
+		// when
+		TwoBuilderMethodsInteger actual = sut.giveMeBuilder(TwoBuilderMethodsInteger.class)
+			.set("value", 1)
+			.sample();
+
+		then(actual.getValue()).isEqualTo(1);
+		then(actual.getBuilderMethodName()).isEqualTo("otherBuilder");
+	}
+
 	@Property
 	void registerRootAndChildElementGeneratingRoot() {
 		// given
@@ -1200,4 +1273,463 @@ class FixtureMonkeyV04OptionsTest {
 
 		then(values).hasSizeLessThanOrEqualTo(2);
 	}
+
+	@Property
+	void compiledPlanDisabled() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.compiledPlan(false)
+			.build();
+
+		String actual = sut.giveMeBuilder(String.class)
+			.set("$", "test")
+			.sample();
+
+		then(actual).isEqualTo("test");
+	}
+
+	@Property(tries = 1)
+	void generationListener() {
+		InMemoryGenerationRecorder recorder = new InMemoryGenerationRecorder();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(recorder)
+			.build();
+
+		sut.giveMe(SimpleObject.class, 3);
+
+		then(recorder.getPhaseRecord(SimpleObject.class, GenerationPhase.SAMPLE).getCount()).isEqualTo(3);
+		then(recorder.getPhaseRecord(SimpleObject.class, GenerationPhase.TRAVERSE).getCount()).isPositive();
+		then(recorder.getPhaseRecord(SimpleObject.class, GenerationPhase.GENERATE).getCount()).isPositive();
+		then(recorder.report()).contains(SimpleObject.class.getTypeName());
+	}
+
+	@Property(tries = 1)
+	void generationListenerCountsFilterMisses() {
+		InMemoryGenerationRecorder recorder = new InMemoryGenerationRecorder();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.arbitraryValidator(obj -> {
+				throw new ConstraintViolationException("thrown by test ArbitraryValidator", new HashSet<>());
+			})
+			.generationListener(recorder)
+			.build();
+
+		thenThrownBy(() -> sut.giveMeOne(String.class))
+			.isExactlyInstanceOf(TooManyFilterMissesException.class);
+		then(recorder.getFilterMissCount(String.class)).isPositive();
+	}
+
+	@Property
+	void repairViolations() {
+		InMemoryGenerationRecorder recorder = new InMemoryGenerationRecorder();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.repairViolations(true)
+			.generationListener(recorder)
+			.build();
+
+		PositiveIntegers actual = sut.giveMeOne(PositiveIntegers.class);
+
+		then(actual.getValues()).allMatch(it -> it >= 0);
+		then(recorder.getFilterMissCount(PositiveIntegers.class)).isLessThan(5);
+	}
+
+	@Property
+	void repairViolationsValidatesRepairedProperties() {
+		AtomicInteger validateCount = new AtomicInteger();
+		DefaultArbitraryValidator delegate = new DefaultArbitraryValidator();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.repairViolations(true)
+			.arbitraryValidator(new ArbitraryValidator() {
+				@Override
+				public void validate(Object arbitrary) {
+					validateCount.incrementAndGet();
+					delegate.validate(arbitrary);
+				}
+
+				@Override
+				public void validateProperty(Object owner, String propertyName) {
+					delegate.validateProperty(owner, propertyName);
+				}
+			})
+			.build();
+
+		PositiveIntegers actual = sut.giveMeOne(PositiveIntegers.class);
+
+		then(actual.getValues()).allMatch(it -> it >= 0);
+		then(validateCount.get()).isLessThan(5);
+	}
+
+	@Property
+	void repairViolationsKeepsSetValue() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.repairViolations(true)
+			.build();
+
+		PositiveIntegers actual = sut.giveMeBuilder(PositiveIntegers.class)
+			.set("str", "test")
+			.sample();
+
+		then(actual.getValues()).allMatch(it -> it >= 0);
+		then(actual.getStr()).isEqualTo("test");
+	}
+
+	@Property
+	void repairViolationsOfElements() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.repairViolations(true)
+			.build();
+
+		List<PositiveIntegers> actual = sut.giveMeBuilder(NestedPositiveIntegers.class)
+			.size("values", 3)
+			.sample()
+			.getValues();
+
+		then(actual).allSatisfy(it -> then(it.getValues()).allMatch(value -> value >= 0));
+	}
+
+	@Property
+	void repairViolationsOfElementsKeepsSetValue() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.repairViolations(true)
+			.build();
+
+		List<PositiveIntegers> actual = sut.giveMeBuilder(NestedPositiveIntegers.class)
+			.size("values", 3)
+			.set("values[1].value1", 5)
+			.sample()
+			.getValues();
+
+		then(actual).allSatisfy(it -> then(it.getValues()).allMatch(value -> value >= 0));
+		then(actual.get(1).getValue1()).isEqualTo(5);
+	}
+
+	@Property
+	void sampleCustomizesOnce() {
+		AtomicInteger customized = new AtomicInteger();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder().build();
+
+		sut.giveMeBuilder(SimpleObject.class)
+			.customize(MatcherOperator.exactTypeMatchOperator(SimpleObject.class, it -> {
+				customized.incrementAndGet();
+				return it;
+			}))
+			.setPostCondition(Objects::nonNull)
+			.sample();
+
+		then(customized).hasValue(1);
+	}
+
+	@Property
+	void shrinkSamples() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.shrinkSamples(true)
+			.build();
+
+		SimpleObject actual = sut.giveMeBuilder(SimpleObject.class)
+			.set("str", "test")
+			.setPostCondition("integer", int.class, it -> it > 0)
+			.sample();
+
+		then(actual.getStr()).isEqualTo("test");
+		then(actual.getInteger()).isPositive();
+	}
+
+	@Property(tries = 1)
+	void warmUp() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.warmUp(SimpleObject.class, BuilderInteger.class)
+			.build();
+
+		WarmUpReport actual = sut.getWarmUpReport();
+
+		then(actual.getElapsedNanosByType()).containsOnlyKeys(SimpleObject.class, BuilderInteger.class);
+		then(actual.getFailuresByType()).isEmpty();
+		then(sut.giveMeOne(SimpleObject.class)).isNotNull();
+	}
+
+	@Property(tries = 1)
+	void warmUpFillsCachesOfChildProperties() {
+		InMemoryGenerationRecorder recorder = new InMemoryGenerationRecorder();
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.generationListener(recorder)
+			.warmUp(SimpleObject.class)
+			.build();
+		long warmUpPropertiesHitCount = PropertyCache.getPropertiesHitCount();
+		long warmUpPropertiesMissCount = PropertyCache.getPropertiesMissCount();
+		recorder.clear();
+
+		sut.giveMeOne(SimpleObject.class);
+
+		then(PropertyCache.getPropertiesHitCount()).isGreaterThan(warmUpPropertiesHitCount);
+		then(PropertyCache.getPropertiesMissCount()).isEqualTo(warmUpPropertiesMissCount);
+		then(recorder.getCacheHitCount()).isPositive();
+		then(recorder.getCacheMissCount()).isEqualTo(1); // the root property is equal only to itself
+	}
+
+	@Property(tries = 1)
+	void warmUpReturnsReport() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder().build();
+
+		WarmUpReport actual = sut.warmUp(Arrays.asList(SimpleObject.class, SimpleObject.class));
+
+		then(actual.getElapsedNanosByType()).containsOnlyKeys(SimpleObject.class);
+		then(actual.getElapsedNanos()).isPositive();
+		then(sut.getWarmUpReport()).isSameAs(actual);
+	}
+
+	@Property(tries = 1)
+	void warmUpPackages() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.warmUpPackages("com.navercorp.fixturemonkey.test")
+			.build();
+
+		WarmUpReport actual = sut.getWarmUpReport();
+
+		then(actual.getElapsedNanosByType()).containsKey(SimpleObject.class);
+		then(actual.getElapsedNanosByType()).doesNotContainKey(Pair.class);
+	}
+
+	@Property(tries = 1)
+	void uniqueStoreMetrics() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder().build();
+
+		Set<Double> actual = sut.giveMeBuilder(new TypeReference<Set<Double>>() {
+			})
+			.size("$", 100)
+			.sample();
+
+		then(actual).hasSize(100);
+		UniqueStoreMetrics metrics = sut.getUniqueStoreMetrics();
+		then(metrics.getCheckCount()).isGreaterThanOrEqualTo(100);
+		then(metrics.getPeakEstimatedBytes()).isPositive();
+	}
+
+	@Property(tries = 1)
+	void bloomFilterUniqueStore() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.uniqueStoreOptions(
+				new UniqueStoreOptions(() -> new BloomFilterUniqueStore(1000, 0.01), Long.MAX_VALUE, 0.01, false)
+			)
+			.build();
+
+		Set<String> actual = sut.giveMeBuilder(new TypeReference<Set<String>>() {
+			})
+			.size("$", 200)
+			.sample();
+
+		then(actual).hasSize(200);
+	}
+
+	@Property(tries = 1)
+	void uniqueStoreDegradedOverMemoryCap() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.uniqueStoreOptions(new UniqueStoreOptions(ExactUniqueStore::new, 1024, 0.01, false))
+			.build();
+
+		Set<Integer> actual = sut.giveMeBuilder(new TypeReference<Set<Integer>>() {
+			})
+			.size("$", 500)
+			.sample();
+
+		then(actual).hasSize(500);
+		then(sut.getUniqueStoreMetrics().getDegradedStoreCount()).isPositive();
+	}
+
+	@Property(tries = 1)
+	void uniqueStoresOfManyBuildersNotDegraded() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.uniqueStoreOptions(new UniqueStoreOptions(ExactUniqueStore::new, 16 * 1024, 0.01, false))
+			.build();
+
+		for (int i = 0; i < 100; i++) {
+			sut.giveMeBuilder(new TypeReference<Set<Integer>>() {
+				})
+				.size("$", 100)
+				.sample();
+		}
+
+		then(sut.getUniqueStoreMetrics().getDegradedStoreCount()).isZero();
+	}
+
+	@Property(tries = 1)
+	void permutedUniqueSet() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.uniqueStoreOptions(new UniqueStoreOptions(ExactUniqueStore::new, Long.MAX_VALUE, 0.01, true))
+			.build();
+
+		Set<Integer> actual = sut.giveMeBuilder(new TypeReference<Set<Integer>>() {
+			})
+			.size("$", 100_000)
+			.sample();
+
+		then(actual).hasSize(100_000);
+		then(sut.getUniqueStoreMetrics().getCheckCount()).isZero();
+	}
+
+	@Property(tries = 1)
+	void permutedUniqueSetOfEveryEnumConstant() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.uniqueStoreOptions(new UniqueStoreOptions(ExactUniqueStore::new, Long.MAX_VALUE, 0.01, true))
+			.build();
+
+		Set<TwoEnum> actual = sut.giveMeBuilder(new TypeReference<Set<TwoEnum>>() {
+			})
+			.size("$", 2)
+			.sample();
+
+		then(actual).containsExactlyInAnyOrder(TwoEnum.values());
+	}
+
+	@Property(tries = 1)
+	void permutedUniqueSetKeepsSetElement() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.uniqueStoreOptions(new UniqueStoreOptions(ExactUniqueStore::new, Long.MAX_VALUE, 0.01, true))
+			.build();
+
+		Set<String> actual = sut.giveMeBuilder(new TypeReference<Set<String>>() {
+			})
+			.size("$", 3)
+			.set("$[0]", "set-value")
+			.sample();
+
+		then(actual).contains("set-value");
+	}
+
+	@Property(tries = 1)
+	void permutedUniqueSetOfEveryEnumConstantKeepsSetElement() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.uniqueStoreOptions(new UniqueStoreOptions(ExactUniqueStore::new, Long.MAX_VALUE, 0.01, true))
+			.build();
+
+		Set<TwoEnum> actual = sut.giveMeBuilder(new TypeReference<Set<TwoEnum>>() {
+			})
+			.size("$", 2)
+			.set("$[0]", TwoEnum.ONE)
+			.sample();
+
+		then(actual).containsExactlyInAnyOrder(TwoEnum.values());
+	}
+
+	@Property
+	void uniqueSetElementGeneratedByIntrospector() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.pushExactTypeArbitraryIntrospector(
+				String.class,
+				(context) -> new ArbitraryIntrospectorResult(Arbitraries.strings().withChars("ab").ofLength(6))
+			)
+			.build();
+
+		Set<String> actual = sut.giveMeBuilder(new TypeReference<Set<String>>() {
+			})
+			.size("$", 3)
+			.sample();
+
+		then(actual).hasSize(3).allMatch(it -> it.matches("[ab]{6}"));
+	}
+
+	@Property
+	void sampleSelfRecursiveObject() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder().build();
+
+		SelfRecursiveObject actual = sut.giveMeOne(SelfRecursiveObject.class);
+
+		int nestedDepth = 0;
+		for (SelfRecursiveObject it = actual.getRecursive(); it != null; it = it.getRecursive()) {
+			nestedDepth++;
+		}
+		then(nestedDepth).isLessThanOrEqualTo(GenerateOptions.DEFAULT_MAX_RECURSION_DEPTH);
+	}
+
+	@Property
+	void maxRecursionDepth() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.maxRecursionDepth(0)
+			.build();
+
+		SelfRecursiveObject actual = sut.giveMeOne(SelfRecursiveObject.class);
+
+		then(actual.getRecursive()).isNull();
+	}
+
+	@Property
+	void setTruncatedProperty() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.maxRecursionDepth(0)
+			.build();
+
+		SelfRecursiveObject actual = sut.giveMeBuilder(SelfRecursiveObject.class)
+			.set("recursive.value", "test")
+			.sample();
+
+		then(actual.getRecursive().getValue()).isEqualTo("test");
+		then(actual.getRecursive().getRecursive()).isNull();
+	}
+
+	@Property
+	void sampleDeeplyNestedContainerObject() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.defaultNotNull(true)
+			.build();
+
+		DeeplyNestedContainerObject actual = sut.giveMeBuilder(DeeplyNestedContainerObject.class)
+			.size("values", 1)
+			.size("values[0]", 1)
+			.size("values[0][0]", 1)
+			.size("values[0][0][0]", 1)
+			.size("values[0][0][0][0]", 1)
+			.sample();
+
+		then(actual.getValues().get(0).get(0).get(0).get(0).get(0)).isNotNull();
+		then(actual.getWrapper().getValue().getValue().getValue().getValue().getValue()).isNotNull();
+	}
+
+	@Property
+	void maxNodeCount() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder()
+			.maxNodeCount(1)
+			.build();
+
+		SelfRecursiveObject actual = sut.giveMeOne(SelfRecursiveObject.class);
+
+		then(actual.getRecursive()).isNull();
+		then(actual.getChildren()).isNullOrEmpty();
+	}
+
+	@Property(tries = 10)
+	void sampleLargeListOfObjects() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder().build();
+
+		List<StringPair> actual = sut.giveMeBuilder(new TypeReference<List<StringPair>>() {
+			})
+			.size("$", 10_000)
+			.sample();
+
+		then(actual).hasSize(10_000);
+		then(actual.stream().map(StringPair::getValue1).distinct().count()).isGreaterThan(1);
+	}
+
+	@Property
+	void setElementOfListOfObjects() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder().build();
+
+		List<StringPair> actual = sut.giveMeBuilder(new TypeReference<List<StringPair>>() {
+			})
+			.size("$", 5)
+			.set("$[3].value1", "set")
+			.sample();
+
+		then(actual.get(3).getValue1()).isEqualTo("set");
+		then(actual.subList(0, 3)).extracting(StringPair::getValue1).doesNotContain("set");
+	}
+
+	@Property
+	void sizeContainerOfElementOfListOfObjects() {
+		LabMonkey sut = LabMonkey.labMonkeyBuilder().build();
+
+		List<ListStringObject> actual = sut.giveMeBuilder(new TypeReference<List<ListStringObject>>() {
+			})
+			.size("$", 3)
+			.size("$[1].values", 5)
+			.sample();
+
+		then(actual.get(1).getValues()).hasSize(5);
+	}
 }
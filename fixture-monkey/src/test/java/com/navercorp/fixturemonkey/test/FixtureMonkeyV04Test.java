@@ -38,6 +38,12 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -1538,4 +1544,155 @@ class FixtureMonkeyV04Test {
 				.sample()
 		);
 	}
+
+	@Property(tries = 1)
+	void sampleListWithCompiledPlanReturnsDifferentValues() {
+		List<String> actual = SUT.giveMeBuilder(String.class)
+			.setNotNull("$")
+			.sampleList(10);
+
+		then(new HashSet<>(actual)).hasSizeGreaterThan(1);
+	}
+
+	@Property
+	void sampleListWithFixedSizeContainer() {
+		List<List<String>> actual = SUT.giveMeBuilder(new TypeReference<List<String>>() {
+			})
+			.size("$", 3)
+			.set("$[0]", "test")
+			.sampleList(5);
+
+		then(actual).allSatisfy(it -> {
+			then(it).hasSize(3);
+			then(it.get(0)).isEqualTo("test");
+		});
+	}
+
+	@Property(tries = 1)
+	void sampleStreamParallel() {
+		List<Set<String>> actual = SUT.giveMeBuilder(new TypeReference<Set<String>>() {
+			})
+			.size("$", 5)
+			.sampleStream()
+			.parallel()
+			.limit(100)
+			.collect(Collectors.toList());
+
+		then(actual).hasSize(100).allSatisfy(it -> then(it).hasSize(5));
+	}
+
+	@Property(tries = 1)
+	void sampleFromThreadsWithRandomSizeContainer() throws Exception {
+		int threadCount = 8;
+		ArbitraryBuilder<ListStringObject> builder = SUT.giveMeBuilder(ListStringObject.class);
+		CyclicBarrier barrier = new CyclicBarrier(threadCount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		List<Future<List<ListStringObject>>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < threadCount; i++) {
+				futures.add(executorService.submit(() -> {
+					barrier.await(10, TimeUnit.SECONDS);
+					List<ListStringObject> samples = new ArrayList<>();
+					for (int j = 0; j < 50; j++) {
+						samples.add(builder.sample());
+					}
+					return samples;
+				}));
+			}
+
+			List<ListStringObject> actual = new ArrayList<>();
+			for (Future<List<ListStringObject>> future : futures) {
+				actual.addAll(future.get(30, TimeUnit.SECONDS));
+			}
+
+			then(actual).hasSize(threadCount * 50).doesNotContainNull();
+			then(actual.stream()
+				.map(ListStringObject::getValues)
+				.filter(Objects::nonNull)
+				.map(List::size)
+				.collect(Collectors.toSet())
+			).hasSizeGreaterThan(1);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Property(tries = 1)
+	void sampleListWithSetLazyReturnsEachValue() {
+		AtomicInteger sequence = new AtomicInteger();
+
+		List<StringPair> actual = SUT.giveMeBuilder(StringPair.class)
+			.set("value1", "fixed")
+			.setLazy("value2", () -> String.valueOf(sequence.getAndIncrement()))
+			.sampleList(3);
+
+		then(actual).extracting(StringPair::getValue1).containsOnly("fixed");
+		then(actual).extracting(StringPair::getValue2).containsExactly("0", "1", "2");
+	}
+
+	@Property(tries = 1)
+	void sampleListWithCompiledPlanReturnsDifferentContainerSizes() {
+		List<List<String>> actual = SUT.giveMeBuilder(new TypeReference<List<String>>() {
+			})
+			.setNotNull("$")
+			.sampleList(30);
+
+		then(actual.stream().map(List::size).collect(Collectors.toSet())).hasSizeGreaterThan(1);
+	}
+
+	@Property
+	void sampleAfterManipulatorAddedToSampledBuilder() {
+		ArbitraryBuilder<StringPair> builder = SUT.giveMeBuilder(StringPair.class)
+			.set("value1", "first");
+		builder.sample();
+
+		StringPair actual = builder.set("value1", "second").sample();
+
+		then(actual.getValue1()).isEqualTo("second");
+	}
+
+	@Property
+	void sampleAfterSizeAddedToSampledBuilder() {
+		ArbitraryBuilder<ListStringObject> builder = SUT.giveMeBuilder(ListStringObject.class)
+			.size("values", 1);
+		builder.sample();
+
+		ListStringObject actual = builder.size("values", 3).sample();
+
+		then(actual.getValues()).hasSize(3);
+	}
+
+	@Property(tries = 1)
+	void giveMeSize() {
+		List<SimpleObject> actual = SUT.giveMe(SimpleObject.class, 50);
+
+		then(actual).hasSize(50).doesNotContainNull();
+	}
+
+	@Property(tries = 1)
+	void giveMeArrayPrimitive() {
+		Integer[] actual = SUT.giveMeArray(int.class, 10);
+
+		then(actual).hasSize(10).doesNotContainNull();
+	}
+
+	@Property
+	void copiedBuilderSharingTemplateManipulatedIndependently() {
+		ArbitraryBuilder<ComplexObject> builder = SUT.giveMeBuilder(ComplexObject.class)
+			.size("strList", 1);
+		builder.sample();
+		ArbitraryBuilder<ComplexObject> copied = builder.copy()
+			.set("str", "copied")
+			.size("strList", 3);
+		builder.set("integer", 1);
+
+		ComplexObject actual = builder.sample();
+		ComplexObject copiedActual = copied.sample();
+
+		then(actual.getStr()).isNotEqualTo("copied");
+		then(actual.getStrList()).hasSize(1);
+		then(actual.getInteger()).isEqualTo(1);
+		then(copiedActual.getStr()).isEqualTo("copied");
+		then(copiedActual.getStrList()).hasSize(3);
+	}
 }